@@ -0,0 +1,87 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.benchmarks.support.Fixtures;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderChangeTracker;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderEventRepository;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderProcessingLock;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderRepository;
+import com.aren.orderserver.benchmarks.support.InMemoryUserService;
+import com.aren.orderserver.benchmarks.support.NoOpTransactionManager;
+import com.aren.orderserver.configs.properties.OrderProcessingProperties;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.repositories.OrderRepository;
+import com.aren.orderserver.services.impl.OrderServiceImpl;
+import com.aren.orderserver.web.security.expression.CustomSecurityExpression;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the method security checks evaluated before every order endpoint.
+ * The security context is thread-bound, so the state is kept per benchmark thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomSecurityExpressionBenchmark {
+
+    @Param({"POSTER", "PROCESSOR"})
+    private UserRole role;
+
+    private CustomSecurityExpression customSecurityExpression;
+    private Integer orderId;
+
+    @Setup
+    public void setUp() {
+        User user = Fixtures.user(1, role);
+        InMemoryUserService userService = new InMemoryUserService();
+        userService.addUser(user);
+        OrderRepository orderRepository = InMemoryOrderRepository.create();
+        orderId = orderRepository.save(Fixtures.order(1, user)).getId();
+        OrderServiceImpl orderService = new OrderServiceImpl(orderRepository, userService,
+                new InMemoryOrderProcessingLock(), ObservationRegistry.NOOP, InMemoryOrderEventRepository.create(),
+                new TransactionTemplate(new NoOpTransactionManager()), new OrderProcessingProperties(),
+                new InMemoryOrderChangeTracker());
+        customSecurityExpression = new CustomSecurityExpression(orderService);
+        SecurityContextHolder.getContext().setAuthentication(Fixtures.authentication(user));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean canPostOrder() {
+        return customSecurityExpression.canPostOrder();
+    }
+
+    @Benchmark
+    public boolean canProcessOrder() {
+        return customSecurityExpression.canProcessOrder();
+    }
+
+    @Benchmark
+    public boolean canGetOrder() {
+        return customSecurityExpression.canGetOrder(orderId);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.benchmarks.support.Fixtures;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.security.JwtEntityFactory;
+import com.aren.orderserver.web.security.JwtTokenProvider;
+import com.aren.orderserver.web.security.properties.JwtProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures access token creation, signature validation and the authentication lookup done by the JWT filter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWp3dC1zaWduaW5nLWhzMjU2");
+        properties.setAccess("3600000");
+        properties.setRefresh("2592000000");
+        user = Fixtures.user(1, UserRole.POSTER);
+        jwtTokenProvider = new JwtTokenProvider(properties, username -> JwtEntityFactory.create(user), null, null);
+        jwtTokenProvider.init();
+        accessToken = createAccessToken();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return jwtTokenProvider.isValid(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication validateAndAuthenticate() {
+        if (!jwtTokenProvider.isValid(accessToken)) {
+            throw new IllegalStateException("Token expired");
+        }
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+}
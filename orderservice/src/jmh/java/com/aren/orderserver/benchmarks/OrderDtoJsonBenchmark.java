@@ -0,0 +1,94 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.benchmarks.support.Fixtures;
+import com.aren.orderserver.configs.JacksonConfig;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.mappers.OrderMapperImpl;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON serializers of order responses: reflective bean serialization, Blackbird-generated accessors,
+ * and the hand-written serializers registered by JacksonConfig.
+ * The output buffer is reused, so running with "-prof gc" reports in gc.alloc.rate.norm the bytes the serializer
+ * itself allocates per operation; divide serializeList by size for the bytes per serialized order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDtoJsonBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    @Param({"bean", "blackbird", "tuned"})
+    private String serializer;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+    private ObjectWriter writer;
+    private OrderDto orderDto;
+    private List<OrderDto> orderDtos;
+    private StatisticsDto statisticsDto;
+
+    @Setup
+    public void setUp() {
+        User poster = Fixtures.user(1, UserRole.POSTER);
+        User processor = Fixtures.user(2, UserRole.PROCESSOR);
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        switch (serializer) {
+            case "blackbird" -> builder.modulesToInstall(jacksonConfig.blackbirdModule());
+            case "tuned" -> builder.modulesToInstall(jacksonConfig.blackbirdModule(), jacksonConfig.orderSerializationModule());
+            default -> {
+            }
+        }
+        writer = builder.build().writer();
+        orderDtos = new OrderMapperImpl().toDto(Fixtures.orders(size, poster, processor));
+        orderDto = orderDtos.get(0);
+        statisticsDto = new StatisticsDto(size / 4L, size / 4L, size / 2L, (long) size);
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        return write(orderDto);
+    }
+
+    @Benchmark
+    public int serializeList() throws IOException {
+        return write(orderDtos);
+    }
+
+    @Benchmark
+    public int serializeStatistics() throws IOException {
+        return write(statisticsDto);
+    }
+
+    private int write(Object value) throws IOException {
+        buffer.reset();
+        writer.writeValue(buffer, value);
+        return buffer.size();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.benchmarks.support.Fixtures;
+import com.aren.orderserver.configs.ContentNegotiationConfig;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.mappers.OrderMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures serialization of order responses in every negotiable format, with and without gzip.
+ * The size of the last payload is reported next to the timings as the payloadBytes counter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDtoSerializationBenchmark {
+
+    @Param({"1", "10000"})
+    private int size;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectWriter writer;
+    private OrderDto orderDto;
+    private List<OrderDto> orderDtos;
+    private StatisticsDto statisticsDto;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        User poster = Fixtures.user(1, UserRole.POSTER);
+        User processor = Fixtures.user(2, UserRole.PROCESSOR);
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> ContentNegotiationConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+            case "smile" -> ContentNegotiationConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        writer = objectMapper.writer();
+        orderDtos = new OrderMapperImpl().toDto(Fixtures.orders(size, poster, processor));
+        orderDto = orderDtos.get(0);
+        statisticsDto = new StatisticsDto(size / 4L, size / 4L, size / 2L, (long) size);
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws IOException {
+        return write(orderDto, payload);
+    }
+
+    @Benchmark
+    public byte[] serializeList(Payload payload) throws IOException {
+        return write(orderDtos, payload);
+    }
+
+    @Benchmark
+    public byte[] serializeStatistics(Payload payload) throws IOException {
+        return write(statisticsDto, payload);
+    }
+
+    private byte[] write(Object value, Payload payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            writer.writeValue(out, value);
+        }
+        payload.payloadBytes = bytes.size();
+        return bytes.toByteArray();
+    }
+
+}
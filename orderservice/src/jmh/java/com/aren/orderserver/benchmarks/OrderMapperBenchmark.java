@@ -0,0 +1,69 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.benchmarks.support.Fixtures;
+import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.mappers.OrderMapper;
+import com.aren.orderserver.web.mappers.OrderMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures entity to DTO mapping and back for a single order, and list mapping at each size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10000"})
+    private int size;
+
+    private OrderMapper orderMapper;
+    private List<Order> orders;
+    private Order order;
+    private OrderDto orderDto;
+
+    @Setup
+    public void setUp() {
+        User poster = Fixtures.user(1, UserRole.POSTER);
+        User processor = Fixtures.user(2, UserRole.PROCESSOR);
+        orderMapper = new OrderMapperImpl();
+        orders = Fixtures.orders(size, poster, processor);
+        order = orders.get(0);
+        orderDto = orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public OrderDto toDto() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public Order toEntity() {
+        return orderMapper.toEntity(orderDto);
+    }
+
+    @Benchmark
+    public List<OrderDto> toDtoList() {
+        return orderMapper.toDto(orders);
+    }
+
+}
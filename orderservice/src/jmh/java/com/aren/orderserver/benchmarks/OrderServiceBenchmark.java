@@ -0,0 +1,105 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.benchmarks.support.Fixtures;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderChangeTracker;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderEventRepository;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderProcessingLock;
+import com.aren.orderserver.benchmarks.support.InMemoryOrderRepository;
+import com.aren.orderserver.benchmarks.support.InMemoryUserService;
+import com.aren.orderserver.benchmarks.support.NoOpTransactionManager;
+import com.aren.orderserver.configs.properties.OrderProcessingProperties;
+import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.exceptions.OrderProgressException;
+import com.aren.orderserver.repositories.OrderRepository;
+import com.aren.orderserver.services.impl.OrderServiceImpl;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the order state transitions in {@link OrderServiceImpl} against in-memory repositories,
+ * so the numbers reflect the service logic rather than the database or Redis round trips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private static final int STATISTICS_ORDERS = 1000;
+
+    private OrderServiceImpl orderService;
+    private User user;
+    private Order order;
+    private Integer processedOrderId;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user(1, UserRole.PROCESSOR);
+        InMemoryUserService userService = new InMemoryUserService();
+        userService.addUser(user);
+        OrderRepository orderRepository = InMemoryOrderRepository.create();
+        Fixtures.orders(STATISTICS_ORDERS, user, user).forEach(orderRepository::save);
+        order = orderRepository.findById(1).orElseThrow();
+        processedOrderId = orderRepository.getOrderByStatus(OrderStatus.PROCESSED).get(0).getId();
+        orderService = new OrderServiceImpl(orderRepository, userService,
+                new InMemoryOrderProcessingLock(), ObservationRegistry.NOOP, InMemoryOrderEventRepository.create(),
+                new TransactionTemplate(new NoOpTransactionManager()), new OrderProcessingProperties(),
+                new InMemoryOrderChangeTracker());
+        SecurityContextHolder.getContext().setAuthentication(Fixtures.authentication(user));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Order placeOrder() {
+        Order placed = Fixtures.order(STATISTICS_ORDERS + 1, user);
+        return orderService.placeAndOrder(placed);
+    }
+
+    @Benchmark
+    public Order processingCycle() {
+        order.setStatus(OrderStatus.READY);
+        order.setProcessedBy(null);
+        orderService.startProcessing(order.getId());
+        return orderService.completeProcessing(order.getId());
+    }
+
+    @Benchmark
+    public OrderProgressException rejectProcessedOrder() {
+        try {
+            orderService.startProcessing(processedOrderId);
+            throw new IllegalStateException("Processed order was accepted");
+        } catch (OrderProgressException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public StatisticsDto getStatistics() {
+        return orderService.getStatisticsByUser();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.web.security.BoundedPasswordEncoder;
+import com.aren.orderserver.web.security.properties.PasswordHashingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures BCrypt encode and matches at each cost factor, directly on the calling thread and
+ * through the bounded hashing pool used by the application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"4", "8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private BoundedPasswordEncoder boundedEncoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        properties.setPoolSize(1);
+        encoder = new BCryptPasswordEncoder(strength);
+        boundedEncoder = new BoundedPasswordEncoder(properties);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        boundedEncoder.close();
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean boundedMatches() {
+        return boundedEncoder.matches(PASSWORD, hash);
+    }
+
+}
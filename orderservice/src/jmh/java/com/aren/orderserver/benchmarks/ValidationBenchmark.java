@@ -0,0 +1,96 @@
+package com.aren.orderserver.benchmarks;
+
+import com.aren.orderserver.configs.ValidationConfig;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.dto.UserDto;
+import com.aren.orderserver.web.dto.UserImportDto;
+import com.aren.orderserver.web.validation.OnCreate;
+import jakarta.validation.Configuration;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bean validation of request bodies in the OnCreate group: a single order and a bulk user import.
+ * The "default" configuration checks reachability through JPA, "configured" applies ValidationConfig.
+ * Divide validateImport by size for the cost per imported user.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    @Param({"default", "configured"})
+    private String configuration;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private OrderDto orderDto;
+    private UserImportDto importDto;
+
+    @Setup
+    public void setUp() {
+        Configuration<?> bootstrap = Validation.byDefaultProvider().configure();
+        if (configuration.equals("configured")) {
+            new ValidationConfig().validationConfigurationCustomizer().customize(bootstrap);
+        }
+        validatorFactory = bootstrap.buildValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        orderDto = new OrderDto();
+        orderDto.setTitle("Order");
+        orderDto.setDescription("Description of the order");
+
+        List<UserDto> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserDto user = new UserDto();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setEmail("user" + i + "@mail.com");
+            user.setRole("POSTER");
+            users.add(user);
+        }
+        importDto = new UserImportDto();
+        importDto.setUsers(users);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<OrderDto>> validateOrder() {
+        return validator.validate(orderDto, OnCreate.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserImportDto>> validateImport() {
+        return validator.validate(importDto, OnCreate.class);
+    }
+
+}
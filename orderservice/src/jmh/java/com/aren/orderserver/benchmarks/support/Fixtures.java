@@ -0,0 +1,86 @@
+package com.aren.orderserver.benchmarks.support;
+
+import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.security.JwtEntityFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Fixtures {
+
+    public static final OffsetDateTime NOW = OffsetDateTime.of(2024, 6, 1, 12, 30, 0, 0, ZoneOffset.UTC);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates a user with the given ID and role.
+     *
+     * @param id   the user ID
+     * @param role the role of the user
+     * @return the user
+     */
+    public static User user(int id, UserRole role) {
+        User user = new User("user" + id, "$2a$10$7EqJtq98hPqEX7fNZaFWoOa9vJ8f0vZ5qYQyN6r0V5c1uQmV5Zk2W",
+                "user" + id + "@example.com", role);
+        user.setId(id);
+        return user;
+    }
+
+    /**
+     * Creates an order placed by the given user.
+     *
+     * @param id        the order ID
+     * @param createdBy the user who placed the order
+     * @return the order
+     */
+    public static Order order(int id, User createdBy) {
+        Order order = new Order("Order " + id, "Description of order " + id,
+                OrderStatus.READY, createdBy, null, NOW, null);
+        order.setId(id);
+        return order;
+    }
+
+    /**
+     * Creates a list of orders, cycling through every order status.
+     *
+     * @param size        the number of orders
+     * @param createdBy   the user who placed the orders
+     * @param processedBy the user who processed the orders
+     * @return the orders
+     */
+    public static List<Order> orders(int size, User createdBy, User processedBy) {
+        List<Order> orders = new ArrayList<>(size);
+        OrderStatus[] statuses = OrderStatus.values();
+        for (int i = 1; i <= size; i++) {
+            Order order = order(i, createdBy);
+            OrderStatus status = statuses[i % statuses.length];
+            order.setStatus(status);
+            if (status != OrderStatus.READY) {
+                order.setProcessedBy(processedBy);
+                order.setUpdatedDate(NOW.plusMinutes(i));
+            }
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    /**
+     * Creates an authenticated token for the given user, as produced by the JWT filter.
+     *
+     * @param user the user
+     * @return the authentication
+     */
+    public static Authentication authentication(User user) {
+        var principal = JwtEntityFactory.create(user);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.aren.orderserver.benchmarks.support;
+
+import com.aren.orderserver.web.redis.OrderChangeTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link OrderChangeTracker} kept in a local counter so the order service can be measured without Redis.
+ */
+public class InMemoryOrderChangeTracker extends OrderChangeTracker {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public InMemoryOrderChangeTracker() {
+        super(null, new SimpleMeterRegistry());
+    }
+
+    @Override
+    public void markChanged(Integer ownerId) {
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void markArchived() {
+        version.incrementAndGet();
+    }
+
+    @Override
+    public String getOrdersVersion() {
+        return String.valueOf(version.get());
+    }
+
+}
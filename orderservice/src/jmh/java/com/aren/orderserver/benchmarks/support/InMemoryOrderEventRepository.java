@@ -0,0 +1,51 @@
+package com.aren.orderserver.benchmarks.support;
+
+import com.aren.orderserver.entities.OrderEvent;
+import com.aren.orderserver.repositories.OrderEventRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link OrderEventRepository} that assigns IDs to saved outbox events and discards them,
+ * so the outbox write stays on the measured path without growing the heap.
+ * Any other repository method throws {@link UnsupportedOperationException}.
+ */
+public final class InMemoryOrderEventRepository implements InvocationHandler {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private InMemoryOrderEventRepository() {
+    }
+
+    /**
+     * Creates an in-memory order event repository.
+     *
+     * @return the repository
+     */
+    public static OrderEventRepository create() {
+        return (OrderEventRepository) Proxy.newProxyInstance(
+                OrderEventRepository.class.getClassLoader(),
+                new Class<?>[]{OrderEventRepository.class},
+                new InMemoryOrderEventRepository()
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save" -> {
+                OrderEvent event = (OrderEvent) args[0];
+                event.setId(sequence.incrementAndGet());
+                yield event;
+            }
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryOrderEventRepository";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+}
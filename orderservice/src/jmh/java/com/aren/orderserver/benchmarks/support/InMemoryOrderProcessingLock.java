@@ -0,0 +1,46 @@
+package com.aren.orderserver.benchmarks.support;
+
+import com.aren.orderserver.configs.properties.RedisClientProperties;
+import com.aren.orderserver.web.redis.OrderProcessingLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * {@link OrderProcessingLock} kept in a local set so the order service can be measured without Redis.
+ */
+public class InMemoryOrderProcessingLock extends OrderProcessingLock {
+
+    private final Set<Integer> locked = ConcurrentHashMap.newKeySet();
+
+    public InMemoryOrderProcessingLock() {
+        super(null, new SimpleMeterRegistry(), ObservationRegistry.NOOP, new RedisClientProperties());
+    }
+
+    @Override
+    public boolean acquireLock(Integer orderId) {
+        return locked.add(orderId);
+    }
+
+    @Override
+    public void releaseLock(Integer orderId) {
+        locked.remove(orderId);
+    }
+
+    @Override
+    public boolean isLocked(Integer orderId) {
+        return locked.contains(orderId);
+    }
+
+    @Override
+    public Set<Integer> getLocked(Collection<Integer> orderIds) {
+        return orderIds.stream()
+                .filter(locked::contains)
+                .collect(Collectors.toSet());
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.aren.orderserver.benchmarks.support;
+
+import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.repositories.OrderRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Map-backed {@link OrderRepository} covering the calls made by the order service.
+ * Any other repository method throws {@link UnsupportedOperationException}.
+ */
+public final class InMemoryOrderRepository implements InvocationHandler {
+
+    private final Map<Integer, Order> orders = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private InMemoryOrderRepository() {
+    }
+
+    /**
+     * Creates an empty in-memory order repository.
+     *
+     * @return the repository
+     */
+    public static OrderRepository create() {
+        return (OrderRepository) Proxy.newProxyInstance(
+                OrderRepository.class.getClassLoader(),
+                new Class<?>[]{OrderRepository.class},
+                new InMemoryOrderRepository()
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save" -> save((Order) args[0]);
+            case "findById" -> Optional.ofNullable(orders.get((Integer) args[0]));
+            case "findAll" -> new ArrayList<>(orders.values());
+            case "findAllByArchivedFalse" -> orders.values().stream()
+                    .filter(order -> !order.isArchived())
+                    .toList();
+            case "findAllByArchivedFalseAndCreatedById" -> orders.values().stream()
+                    .filter(order -> !order.isArchived() && order.getCreatedBy().getId().equals(args[0]))
+                    .toList();
+            case "count", "countIncludingArchived" -> (long) orders.size();
+            case "getOrderByStatus" -> orders.values().stream()
+                    .filter(order -> !order.isArchived() && order.getStatus() == args[0])
+                    .toList();
+            case "countByStatus" -> orders.values().stream()
+                    .filter(order -> !order.isArchived() && order.getStatus() == args[0])
+                    .count();
+            case "isOrderOwner" -> {
+                Order order = orders.get((Integer) args[1]);
+                yield order != null && order.getCreatedBy().getId().equals(args[0]);
+            }
+            case "deleteAll" -> {
+                orders.clear();
+                yield null;
+            }
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryOrderRepository" + orders.keySet();
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private Order save(Order order) {
+        if (order.getId() == null) {
+            order.setId(sequence.incrementAndGet());
+        }
+        orders.put(order.getId(), order);
+        return order;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.aren.orderserver.benchmarks.support;
+
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.exceptions.ResourceNotFoundException;
+import com.aren.orderserver.services.UserService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map-backed {@link UserService} for benchmarks that exercise services depending on the current user.
+ */
+public class InMemoryUserService implements UserService {
+
+    private final Map<Integer, User> users = new ConcurrentHashMap<>();
+
+    @Override
+    public User addUser(User user) {
+        users.put(user.getId(), user);
+        return user;
+    }
+
+    @Override
+    public List<User> importUsers(List<User> users) {
+        users.forEach(this::addUser);
+        return users;
+    }
+
+    @Override
+    public User getUser(Integer id) {
+        User user = users.get(id);
+        if (user == null) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND);
+        }
+        return user;
+    }
+
+    @Override
+    public User getUserByUsername(String username) {
+        return users.values().stream()
+                .filter(user -> user.getUsername().equals(username))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    @Override
+    public User updatePassword(String username, String encodedPassword) {
+        User user = getUserByUsername(username);
+        user.setPassword(encodedPassword);
+        return user;
+    }
+
+}
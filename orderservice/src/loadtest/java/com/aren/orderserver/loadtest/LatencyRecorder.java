@@ -0,0 +1,118 @@
+package com.aren.orderserver.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts. Nothing is kept until {@link #start()} is called,
+ * so the warm-up phase does not show up in the results.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    /**
+     * Starts keeping latencies.
+     */
+    public void start() {
+        recorders.values().forEach(Recorder::reset);
+        errors.clear();
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    /**
+     * Stops keeping latencies.
+     */
+    public void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    /**
+     * Records one request.
+     *
+     * @param endpoint     the endpoint name
+     * @param latencyNanos the time from the intended start of the request to the response
+     * @param success      whether the response had the expected status
+     */
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        Recorder recorder = recorders.computeIfAbsent(endpoint, name -> new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+        recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, name -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Prints the per-endpoint summary and writes one percentile distribution file per endpoint
+     * plus a JSON summary to the report directory.
+     *
+     * @param out       the stream the summary table is printed to
+     * @param reportDir the directory the report files are written to
+     * @throws IOException if the report files cannot be written
+     */
+    public void report(PrintStream out, Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        double seconds = (stoppedAt - startedAt) / 1e9;
+        StringBuilder json = new StringBuilder("{\n  \"durationSeconds\": ")
+                .append(String.format(Locale.ROOT, "%.1f", seconds))
+                .append(",\n  \"endpoints\": {");
+
+        out.printf(Locale.ROOT, "%-28s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        String separator = "\n";
+        for (String endpoint : recorders.keySet().stream().sorted().toList()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long count = histogram.getTotalCount();
+            long errorCount = errors.getOrDefault(endpoint, new LongAdder()).sum();
+            double throughput = count / seconds;
+            double p50 = millis(histogram.getValueAtPercentile(50));
+            double p99 = millis(histogram.getValueAtPercentile(99));
+            double p999 = millis(histogram.getValueAtPercentile(99.9));
+            double max = millis(histogram.getMaxValue());
+
+            out.printf(Locale.ROOT, "%-28s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    endpoint, count, errorCount, throughput, p50, p99, p999, max);
+            json.append(separator).append(String.format(Locale.ROOT,
+                    "    \"%s\": {\"requests\": %d, \"errors\": %d, \"throughput\": %.1f, "
+                            + "\"p50\": %.3f, \"p99\": %.3f, \"p999\": %.3f, \"max\": %.3f}",
+                    endpoint, count, errorCount, throughput, p50, p99, p999, max));
+            separator = ",\n";
+
+            try (PrintStream hgrm = new PrintStream(reportDir.resolve(fileName(endpoint)).toFile())) {
+                histogram.outputPercentileDistribution(hgrm, 1_000_000.0);
+            }
+        }
+        json.append("\n  }\n}\n");
+        Files.writeString(reportDir.resolve("summary.json"), json);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.aren.orderserver.loadtest;
+
+import com.aren.orderserver.OrderserverApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the order service against a seeded Postgres and Redis and drives a mix of poster and processor
+ * sessions through the HTTP API, reporting latency percentiles and throughput per endpoint.
+ * <p>
+ * Postgres and Redis are started with Testcontainers unless {@code loadtest.postgres.url} and
+ * {@code loadtest.redis.host} point at running instances; the schema of an existing database is only recreated
+ * with {@code loadtest.reset-schema=true}. See {@link LoadTestSettings} for the other knobs.
+ */
+public class LoadTest {
+
+    private static final int READY_ORDERS_PRELOADED = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        PostgreSQLContainer<?> postgres = null;
+        GenericContainer<?> redis = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            String jdbcUrl = settings.postgresUrl();
+            String dbUser = settings.postgresUser();
+            String dbPassword = settings.postgresPassword();
+            if (jdbcUrl == null) {
+                postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"))
+                        .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=512MB");
+                postgres.start();
+                jdbcUrl = postgres.getJdbcUrl();
+                dbUser = postgres.getUsername();
+                dbPassword = postgres.getPassword();
+            }
+            String redisHost = settings.redisHost();
+            int redisPort = settings.redisPort();
+            if (redisHost == null) {
+                redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+                redis.start();
+                redisHost = redis.getHost();
+                redisPort = redis.getMappedPort(6379);
+            }
+
+            System.out.printf("Seeding %d users and %d orders%n", settings.users(), settings.orders());
+            long seedStart = System.nanoTime();
+            Seeder seeder = new Seeder(jdbcUrl, dbUser, dbPassword);
+            seeder.seed(settings, postgres != null || settings.resetSchema());
+            Queue<Integer> readyOrders = new ConcurrentLinkedQueue<>(seeder.readyOrderIds(READY_ORDERS_PRELOADED));
+            System.out.printf("Seeded in %d s%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seedStart));
+
+            context = new SpringApplicationBuilder(OrderserverApplication.class)
+                    .properties(applicationProperties(jdbcUrl, dbUser, dbPassword, redisHost, redisPort))
+                    .run(args);
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+
+            run(settings, baseUri, readyOrders);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (redis != null) {
+                redis.stop();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static void run(LoadTestSettings settings, URI baseUri, Queue<Integer> readyOrders) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        ObjectMapper objectMapper = new ObjectMapper();
+        long intervalNanos = settings.rate() > 0
+                ? TimeUnit.SECONDS.toNanos(settings.concurrency()) / settings.rate()
+                : 0;
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(executor)
+                     .build()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                int user = i % settings.users();
+                boolean poster = user < settings.posters();
+                String username = poster ? "poster" + (user + 1) : "processor" + (user - settings.posters() + 1);
+                executor.submit(new VirtualUser(client, objectMapper, recorder, baseUri, username,
+                        settings.password(), poster ? settings.posterMix() : settings.processorMix(),
+                        readyOrders, intervalNanos, running::get));
+            }
+
+            System.out.printf("Warming up for %s with %d virtual users%s%n", settings.warmup(), settings.concurrency(),
+                    intervalNanos > 0 ? " at " + settings.rate() + " req/s" : "");
+            Thread.sleep(settings.warmup());
+            recorder.start();
+            System.out.printf("Recording for %s%n", settings.duration());
+            Thread.sleep(settings.duration());
+            recorder.stop();
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        recorder.report(System.out, Path.of(settings.reportDir()));
+    }
+
+    private static Map<String, Object> applicationProperties(String jdbcUrl,
+                                                             String dbUser,
+                                                             String dbPassword,
+                                                             String redisHost,
+                                                             int redisPort) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", dbUser);
+        properties.put("spring.datasource.password", dbPassword);
+        properties.put("spring.r2dbc.url", jdbcUrl.replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""));
+        properties.put("spring.r2dbc.username", dbUser);
+        properties.put("spring.r2dbc.password", dbPassword);
+        properties.put("spring.data.redis.host", redisHost);
+        properties.put("spring.data.redis.port", redisPort);
+        return properties;
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.aren.orderserver.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties.
+ *
+ * @param posters         number of seeded users with the poster role
+ * @param processors      number of seeded users with the processor role
+ * @param orders          number of seeded orders
+ * @param concurrency     number of virtual users, each driving its own session
+ * @param rate            target requests per second across all virtual users, or 0 to run closed-loop
+ * @param warmup          time spent driving load before recording starts
+ * @param duration        time spent recording
+ * @param password        plain password shared by every seeded user
+ * @param posterMix       action weights for poster sessions
+ * @param processorMix    action weights for processor sessions
+ * @param postgresUrl     JDBC URL of an existing database, or null to start a container
+ * @param postgresUser    database user when an existing database is used
+ * @param postgresPassword database password when an existing database is used
+ * @param redisHost       host of an existing Redis, or null to start a container
+ * @param redisPort       port of an existing Redis
+ * @param resetSchema     whether the tables of an existing database may be dropped and recreated before seeding
+ * @param reportDir       directory the histograms and the summary are written to
+ */
+public record LoadTestSettings(int posters,
+                               int processors,
+                               int orders,
+                               int concurrency,
+                               int rate,
+                               Duration warmup,
+                               Duration duration,
+                               String password,
+                               Mix posterMix,
+                               Mix processorMix,
+                               String postgresUrl,
+                               String postgresUser,
+                               String postgresPassword,
+                               String redisHost,
+                               int redisPort,
+                               boolean resetSchema,
+                               String reportDir) {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("posters", "200"),
+            Map.entry("processors", "50"),
+            Map.entry("orders", "2000000"),
+            Map.entry("concurrency", "64"),
+            Map.entry("rate", "0"),
+            Map.entry("warmup", "30s"),
+            Map.entry("duration", "120s"),
+            Map.entry("password", "loadtest-password"),
+            Map.entry("mix.poster", "place:60,get:20,all:5,refresh:10,login:5"),
+            Map.entry("mix.processor", "claim:60,stat:15,all:5,refresh:15,login:5"),
+            Map.entry("redis.port", "6379"),
+            Map.entry("reset-schema", "false"),
+            Map.entry("report-dir", "build/reports/loadtest")
+    );
+
+    /**
+     * Reads the settings from {@code loadtest.*} system properties, falling back to the defaults.
+     *
+     * @return the load test settings
+     */
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.parseInt(get("posters")),
+                Integer.parseInt(get("processors")),
+                Integer.parseInt(get("orders")),
+                Integer.parseInt(get("concurrency")),
+                Integer.parseInt(get("rate")),
+                parseDuration(get("warmup")),
+                parseDuration(get("duration")),
+                get("password"),
+                Mix.parse(get("mix.poster")),
+                Mix.parse(get("mix.processor")),
+                get("postgres.url"),
+                get("postgres.username"),
+                get("postgres.password"),
+                get("redis.host"),
+                Integer.parseInt(get("redis.port")),
+                Boolean.parseBoolean(get("reset-schema")),
+                get("report-dir")
+        );
+    }
+
+    /**
+     * Returns the number of seeded users.
+     *
+     * @return posters plus processors
+     */
+    public int users() {
+        return posters + processors;
+    }
+
+    private static String get(String name) {
+        return System.getProperty("loadtest." + name, DEFAULTS.get(name));
+    }
+
+    private static Duration parseDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.aren.orderserver.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted choice of the next action a virtual user performs, parsed from {@code action:weight} pairs.
+ */
+public final class Mix {
+
+    public enum Action {
+        PLACE,
+        GET,
+        ALL,
+        CLAIM,
+        STAT,
+        REFRESH,
+        LOGIN
+    }
+
+    private final Action[] actions;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private Mix(Map<Action, Integer> weights) {
+        this.actions = new Action[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Action, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            actions[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Parses a mix such as {@code place:60,get:20,refresh:20}.
+     *
+     * @param value the comma separated action weights
+     * @return the mix
+     * @throws IllegalArgumentException if an action is unknown or no weight is positive
+     */
+    public static Mix parse(String value) {
+        Map<Action, Integer> weights = new EnumMap<>(Action.class);
+        for (String pair : value.split(",")) {
+            String[] parts = pair.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected action:weight but got " + pair);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Action.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no positive weights: " + value);
+        }
+        return new Mix(weights);
+    }
+
+    /**
+     * Picks the next action in proportion to its weight.
+     *
+     * @return the action
+     */
+    public Action next() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return actions[i];
+            }
+        }
+        return actions[actions.length - 1];
+    }
+
+}
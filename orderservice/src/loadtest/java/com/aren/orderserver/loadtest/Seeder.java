@@ -0,0 +1,141 @@
+package com.aren.orderserver.loadtest;
+
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the schema and bulk-loads users and orders with {@code generate_series}, so millions of
+ * orders take seconds rather than going through the API.
+ * Users {@code 1..posters} are posters named {@code posterN}, the rest are processors named {@code processorN}.
+ */
+public class Seeder {
+
+    private static final String SCHEMA = "db/migration/update-schema.sql";
+
+    private static final String INSERT_USERS = """
+            INSERT INTO users (username, password, email, role)
+            SELECT ?::text || g, ?, ?::text || g || '@loadtest.local', ?
+            FROM generate_series(1, ?) g
+            """;
+
+    /*
+     * Six in ten orders are processed, one in ten is in process and the rest are ready.
+     * Orders are spread evenly over posters and processed orders over processors.
+     */
+    private static final String INSERT_ORDERS = """
+            INSERT INTO orders (title, description, status, created_by, updated_by, created_date, updated_date)
+            SELECT 'Order ' || g,
+                   'Seeded order ' || g,
+                   s.status,
+                   1 + g %% ?,
+                   CASE WHEN s.status = %1$d THEN NULL ELSE ? + 1 + g %% ? END,
+                   now() - make_interval(secs => g),
+                   CASE WHEN s.status = %1$d THEN NULL ELSE now() - make_interval(secs => g / 2) END
+            FROM generate_series(1, ?) g
+            CROSS JOIN LATERAL (SELECT CASE WHEN g %% 10 < 6 THEN %3$d
+                                            WHEN g %% 10 < 7 THEN %2$d
+                                            ELSE %1$d END::smallint AS status) s
+            """.formatted(OrderStatus.READY.getCode(), OrderStatus.IN_PROCESS.getCode(), OrderStatus.PROCESSED.getCode());
+
+    private final String url;
+    private final String username;
+    private final String password;
+
+    public Seeder(String url, String username, String password) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Creates the schema and seeds users and orders.
+     * Existing tables are dropped first, which is only allowed for a throwaway database.
+     *
+     * @param settings    the load test settings
+     * @param resetSchema whether the existing tables may be dropped, true for the Testcontainers database
+     *                    or when {@code loadtest.reset-schema} is set
+     * @throws IllegalStateException if the schema may not be reset
+     * @throws SQLException          if a statement fails
+     * @throws IOException           if the schema script cannot be read
+     */
+    public void seed(LoadTestSettings settings, boolean resetSchema) throws SQLException, IOException {
+        if (!resetSchema) {
+            throw new IllegalStateException("Seeding drops the users, orders and order_events tables of " + url
+                    + "; set loadtest.reset-schema=true to allow it on an existing database");
+        }
+        String hash = new BCryptPasswordEncoder(10).encode(settings.password());
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS order_archive_stats, order_events, orders, users CASCADE");
+            statement.execute(readSchema());
+            insertUsers(connection, "poster", UserRole.POSTER, settings.posters(), hash);
+            insertUsers(connection, "processor", UserRole.PROCESSOR, settings.processors(), hash);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_ORDERS)) {
+                insert.setInt(1, settings.posters());
+                insert.setInt(2, settings.posters());
+                insert.setInt(3, settings.processors());
+                insert.setInt(4, settings.orders());
+                insert.executeUpdate();
+            }
+            statement.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Reads the IDs of the most recently seeded orders that are ready to be processed.
+     *
+     * @param limit the maximum number of IDs
+     * @return the order IDs
+     * @throws SQLException if the query fails
+     */
+    public List<Integer> readyOrderIds(int limit) throws SQLException {
+        List<Integer> ids = new ArrayList<>(limit);
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             PreparedStatement query = connection.prepareStatement(
+                     "SELECT id FROM orders WHERE status = ? ORDER BY id DESC LIMIT ?")) {
+            query.setShort(1, OrderStatus.READY.getCode());
+            query.setInt(2, limit);
+            try (ResultSet resultSet = query.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void insertUsers(Connection connection, String prefix, UserRole role, int count, String hash)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_USERS)) {
+            insert.setString(1, prefix);
+            insert.setString(2, hash);
+            insert.setString(3, prefix);
+            insert.setShort(4, role.getCode());
+            insert.setInt(5, count);
+            insert.executeUpdate();
+        }
+    }
+
+    private static String readSchema() throws IOException {
+        try (InputStream schema = Seeder.class.getClassLoader().getResourceAsStream(SCHEMA)) {
+            if (schema == null) {
+                throw new IOException(SCHEMA + " not found on the classpath");
+            }
+            return new String(schema.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
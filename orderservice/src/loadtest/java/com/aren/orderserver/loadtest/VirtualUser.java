@@ -0,0 +1,224 @@
+package com.aren.orderserver.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One logged-in session driving requests from its {@link Mix} until stopped.
+ * <p>
+ * With a target rate, every request has an intended start time and latency is measured from it,
+ * so a stalled server is charged for the requests that queued up behind the stall.
+ */
+public class VirtualUser implements Runnable {
+
+    private static final int OWN_ORDERS_KEPT = 100;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final URI baseUri;
+    private final String username;
+    private final String password;
+    private final Mix mix;
+    private final Queue<Integer> readyOrders;
+    private final long intervalNanos;
+    private final BooleanSupplier running;
+    private final Deque<Integer> ownOrders = new ArrayDeque<>();
+
+    private String accessToken;
+    private String refreshToken;
+    private long intendedStart;
+
+    public VirtualUser(HttpClient client,
+                       ObjectMapper objectMapper,
+                       LatencyRecorder recorder,
+                       URI baseUri,
+                       String username,
+                       String password,
+                       Mix mix,
+                       Queue<Integer> readyOrders,
+                       long intervalNanos,
+                       BooleanSupplier running) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.baseUri = baseUri;
+        this.username = username;
+        this.password = password;
+        this.mix = mix;
+        this.readyOrders = readyOrders;
+        this.intervalNanos = intervalNanos;
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        intendedStart = System.nanoTime();
+        if (intervalNanos > 0) {
+            intendedStart += ThreadLocalRandom.current().nextLong(intervalNanos);
+        }
+        while (running.getAsBoolean()) {
+            pace();
+            if (accessToken == null) {
+                login();
+                continue;
+            }
+            switch (mix.next()) {
+                case PLACE -> place();
+                case GET -> getOwnOrder();
+                case ALL -> getAll();
+                case CLAIM -> claim();
+                case STAT -> getStatistics();
+                case REFRESH -> refresh();
+                case LOGIN -> login();
+            }
+        }
+    }
+
+    private void login() {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        JsonNode response = send("POST /auth/login", json("/api/v1/auth/login", body));
+        if (response != null) {
+            accessToken = response.path("accessToken").asText();
+            refreshToken = response.path("refreshToken").asText();
+        }
+    }
+
+    private void refresh() {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/refresh"))
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString(refreshToken))
+                .build();
+        JsonNode response = send("POST /auth/refresh", request);
+        if (response != null) {
+            accessToken = response.path("accessToken").asText();
+            refreshToken = response.path("refreshToken").asText();
+        } else {
+            accessToken = null;
+        }
+    }
+
+    private void place() {
+        int n = ThreadLocalRandom.current().nextInt(1_000_000);
+        String body = "{\"title\":\"Load test order " + n + "\",\"description\":\"Placed by " + username + "\"}";
+        JsonNode response = send("POST /orders", authorized(json("/api/v1/orders/", body)));
+        if (response != null) {
+            int id = response.path("id").asInt();
+            readyOrders.offer(id);
+            ownOrders.addLast(id);
+            if (ownOrders.size() > OWN_ORDERS_KEPT) {
+                ownOrders.removeFirst();
+            }
+        }
+    }
+
+    private void getOwnOrder() {
+        Integer id = ownOrders.peekLast();
+        if (id == null) {
+            place();
+            return;
+        }
+        send("GET /orders/{id}", authorized(get("/api/v1/orders/" + id)));
+    }
+
+    private void getAll() {
+        send("GET /orders/all", authorized(get("/api/v1/orders/all")));
+    }
+
+    private void claim() {
+        Integer id = readyOrders.poll();
+        if (id == null) {
+            getStatistics();
+            return;
+        }
+        HttpRequest start = authorized(put("/api/v1/orders/" + id + "/start"));
+        if (send("PUT /orders/{id}/start", start) != null) {
+            HttpRequest complete = authorized(put("/api/v1/orders/" + id + "/complete"));
+            send("PUT /orders/{id}/complete", complete, System.nanoTime());
+        }
+    }
+
+    private void getStatistics() {
+        send("GET /orders/stat", authorized(get("/api/v1/orders/stat")));
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        return send(endpoint, request, intervalNanos > 0 ? intendedStart : System.nanoTime());
+    }
+
+    /**
+     * Sends the request and records its latency under the given endpoint name.
+     *
+     * @param endpoint the endpoint name the latency is recorded under
+     * @param request  the request
+     * @param start    the time the latency is measured from
+     * @return the parsed response body, or null if the request failed
+     */
+    private JsonNode send(String endpoint, HttpRequest request, long start) {
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() == 200;
+            recorder.record(endpoint, System.nanoTime() - start, success);
+            if (!success) {
+                if (response.statusCode() == 401) {
+                    accessToken = null;
+                }
+                return null;
+            }
+            return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void pace() {
+        if (intervalNanos <= 0) {
+            return;
+        }
+        intendedStart += intervalNanos;
+        long delay = intendedStart - System.nanoTime();
+        if (delay > 0) {
+            LockSupport.parkNanos(delay);
+        }
+    }
+
+    private HttpRequest json(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest put(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest authorized(HttpRequest request) {
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .header("Authorization", "Bearer " + accessToken)
+                .build();
+    }
+
+}
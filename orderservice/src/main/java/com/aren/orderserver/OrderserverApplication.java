@@ -1,17 +1,28 @@
 package com.aren.orderserver;
 
+import com.aren.orderserver.configs.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @EnableTransactionManagement
 @EnableCaching
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class OrderserverApplication {
 
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
+    /**
+     * Starts the application, recording the duration of every startup step for the actuator startup endpoint.
+     */
     public static void main(String[] args) {
-        SpringApplication.run(OrderserverApplication.class, args);
+        SpringApplication application = new SpringApplication(OrderserverApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
@@ -13,7 +13,6 @@ import java.lang.annotation.Target;
 @Constraint(validatedBy = EmailValidator.class)
 public @interface CheckEmail {
 
-    String value() default "";
     String message() default "Email must be a valid email address";
 
     Class<?>[] groups() default {};
@@ -3,23 +3,57 @@ package com.aren.orderserver.annotations;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class EmailValidator implements ConstraintValidator<CheckEmail, String> {
 
-    public static final Pattern VALID_EMAIL_ADDRESS_REGEX =
-            Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE);
-    private String email;
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
+    private static final int MAX_TOP_LEVEL_DOMAIN_LENGTH = 6;
 
+    /**
+     * Accepts addresses of the form local@domain.tld, where the local part consists of letters, digits and "._%+-",
+     * the domain of letters, digits, dots and hyphens, and the top-level domain of 2 to 6 letters.
+     * The address is checked in a single pass without a regular expression, so adversarial input can not cause backtracking.
+     *
+     * @param value   the email address, valid if null
+     * @param context the validation context
+     * @return true if the address is well-formed
+     */
     @Override
-    public void initialize(CheckEmail checkEmail) {
-        email = checkEmail.value();
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        int at = value.indexOf('@');
+        int dot = value.lastIndexOf('.');
+        int topLevelDomainLength = value.length() - dot - 1;
+        if (at < 1 || dot <= at + 1
+                || topLevelDomainLength < MIN_TOP_LEVEL_DOMAIN_LENGTH || topLevelDomainLength > MAX_TOP_LEVEL_DOMAIN_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (!isLetterOrDigit(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                return false;
+            }
+        }
+        for (int i = at + 1; i < dot; i++) {
+            char c = value.charAt(i);
+            if (!isLetterOrDigit(c) && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        for (int i = dot + 1; i < value.length(); i++) {
+            if (!isLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    @Override
-    public boolean isValid(String value, ConstraintValidatorContext context) {
-        Matcher matcher = VALID_EMAIL_ADDRESS_REGEX.matcher(email);
-        return matcher.matches();
+    private static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 }
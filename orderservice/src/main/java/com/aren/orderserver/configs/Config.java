@@ -1,12 +1,22 @@
 package com.aren.orderserver.configs;
 
+import com.aren.orderserver.web.redis.RedisRateLimiter;
+import com.aren.orderserver.web.security.BoundedPasswordEncoder;
 import com.aren.orderserver.web.security.JwtTokenFilter;
 import com.aren.orderserver.web.security.JwtTokenProvider;
+import com.aren.orderserver.web.security.LocalRateLimiter;
+import com.aren.orderserver.web.security.RateLimitFilter;
+import com.aren.orderserver.web.security.RateLimiter;
+import com.aren.orderserver.web.security.properties.PasswordHashingProperties;
+import com.aren.orderserver.web.security.properties.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
@@ -17,13 +27,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
-@ComponentScan(basePackages = "com.aren.orderserver")
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor(onConstructor = @__(@Lazy))
@@ -32,13 +40,31 @@ public class Config {
     private final JwtTokenProvider jwtTokenProvider;
 
     /**
-     * Configures and provides a PasswordEncoder bean using BCryptPasswordEncoder for password hashing.
+     * Configures and provides a PasswordEncoder bean that runs BCrypt hashing on a bounded dedicated pool.
      *
-     * @return PasswordEncoder bean with BCryptPasswordEncoder implementation
+     * @param properties The cost factor, pool size, queue capacity and timeout of the hashing pool
+     * @return PasswordEncoder bean with BoundedPasswordEncoder implementation
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        return new BoundedPasswordEncoder(properties);
+    }
+
+    /**
+     * Configures and provides the RateLimiter keeping the token buckets of the rate limit filter,
+     * in Redis when the limits are shared by all nodes or in memory otherwise.
+     *
+     * @param properties     The rate limit settings
+     * @param redissonClient The Redis client used for shared buckets
+     * @param meterRegistry  The registry the shared limiter records Redis errors to
+     * @return RateLimiter bean with RedisRateLimiter or LocalRateLimiter implementation
+     */
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        if (properties.isDistributed()) {
+            return new RedisRateLimiter(redissonClient, meterRegistry);
+        }
+        return new LocalRateLimiter(properties.getMaxKeys());
     }
 
     /**
@@ -57,11 +83,17 @@ public class Config {
      * Configures and provides a SecurityFilterChain bean for configuring security rules using HttpSecurity.
      *
      * @param httpSecurity The HttpSecurity object to configure security rules
+     * @param meterRegistry The registry the JWT filter records token validation timings to
+     * @param rateLimitProperties The per-route limits and admission settings of the rate limit filter
+     * @param rateLimiter The RateLimiter keeping the token buckets
+     * @param objectMapper The ObjectMapper the rate limit filter writes its rejections with
      * @return SecurityFilterChain bean configured based on the provided HttpSecurity configuration
      */
     @Bean
     @SneakyThrows
-    public SecurityFilterChain filterChain(HttpSecurity httpSecurity) {
+    public SecurityFilterChain filterChain(HttpSecurity httpSecurity, MeterRegistry meterRegistry,
+                                           RateLimitProperties rateLimitProperties, RateLimiter rateLimiter,
+                                           ObjectMapper objectMapper) {
         httpSecurity
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(AbstractHttpConfigurer::disable)
@@ -79,7 +111,9 @@ public class Config {
                                             response.getWriter().write("Unauthorized.");
                                         }))
                 .authorizeHttpRequests(configurer ->
-                        configurer.requestMatchers("/api/v1/auth/**")
+                        configurer.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                .permitAll()
+                                .requestMatchers("/api/v1/auth/**")
                                 .permitAll()
                                 .requestMatchers("/swagger-ui/**")
                                 .permitAll()
@@ -87,10 +121,14 @@ public class Config {
                                 .permitAll()
                                 .requestMatchers("/graphiql")
                                 .permitAll()
+                                .requestMatchers("/actuator/health/**", "/actuator/prometheus")
+                                .permitAll()
                                 .anyRequest().authenticated())
                 .anonymous(AbstractHttpConfigurer::disable)
-                .addFilterBefore(new JwtTokenFilter(jwtTokenProvider),
-                        UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtTokenFilter(jwtTokenProvider, meterRegistry),
+                        UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimitProperties, rateLimiter, meterRegistry, objectMapper),
+                        JwtTokenFilter.class);
 
         return httpSecurity.build();
     }
@@ -0,0 +1,71 @@
+package com.aren.orderserver.configs;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class ContentNegotiationConfig {
+
+    /**
+     * Configures and provides the converter used when a client accepts application/cbor.
+     *
+     * @param builder The builder carrying the Jackson settings of the application
+     * @return MappingJackson2CborHttpMessageConverter writing dates as epoch milliseconds
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryMapper(builder, new CBORFactory()));
+    }
+
+    /**
+     * Configures and provides the converter used when a client accepts application/x-jackson-smile.
+     * Repeated string values such as statuses and usernames are written once and referenced afterwards.
+     *
+     * @param builder The builder carrying the Jackson settings of the application
+     * @return MappingJackson2SmileHttpMessageConverter writing dates as epoch milliseconds
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder, factory));
+    }
+
+    /**
+     * Builds an ObjectMapper for a binary format from the application settings.
+     * The display patterns of @JsonFormat are meant for JSON readers, so binary formats ignore them and carry
+     * dates as epoch milliseconds, which are both smaller and lossless.
+     *
+     * @param builder The builder carrying the Jackson settings of the application
+     * @param factory The factory of the binary format
+     * @return The ObjectMapper for the format
+     */
+    public static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder.factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS,
+                        DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .annotationIntrospector(new JacksonAnnotationIntrospector() {
+                    @Override
+                    public JsonFormat.Value findFormat(Annotated annotated) {
+                        return JsonFormat.Value.empty();
+                    }
+                })
+                .build();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.configs.properties.PgJdbcProperties;
+import com.aren.orderserver.configs.properties.ReplicaDataSourceProperties;
+import com.aren.orderserver.web.datasource.ReplicaRoutingDataSource;
+import com.aren.orderserver.web.redis.RecentWriteStore;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Binds the JDBC datasource properties.
+     * Declared explicitly because the datasource auto-configuration backs off once an R2DBC connection factory exists.
+     *
+     * @return DataSourceProperties bound to the spring.datasource prefix
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties(prefix = "spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * Creates the JDBC datasource of the primary database.
+     * Pool settings come from spring.datasource.hikari, driver settings from orders.jdbc.
+     * Consumers inject it as a DataSource, since observability decorators may wrap the pool.
+     *
+     * @param dataSourceProperties The JDBC datasource properties
+     * @param pgJdbcProperties     The PgJDBC driver settings
+     * @return HikariDataSource configured from the spring.datasource and spring.datasource.hikari properties
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties,
+                                              PgJdbcProperties pgJdbcProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setDataSourceProperties(pgJdbcProperties.toDriverProperties());
+        return dataSource;
+    }
+
+    /**
+     * Creates the datasource routing read-only transactions across the read replicas configured under
+     * orders.datasource.replicas. It is always created, so that replicas stay a runtime setting for AOT builds;
+     * without replicas it routes everything to the primary and is not used for JDBC access.
+     *
+     * @param primaryDataSource           The datasource of the primary database
+     * @param dataSourceProperties        The JDBC datasource properties, whose credentials replicas default to
+     * @param replicaDataSourceProperties The replica properties
+     * @param pgJdbcProperties            The PgJDBC driver settings, shared with the primary
+     * @param recentWriteStore            The store sharing recent writes of users across nodes
+     * @param meterRegistry               The registry for the replica pool metrics and lag gauges
+     * @return ReplicaRoutingDataSource over the primary and the replicas
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             ReplicaDataSourceProperties replicaDataSourceProperties,
+                                                             PgJdbcProperties pgJdbcProperties,
+                                                             RecentWriteStore recentWriteStore,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<ReplicaDataSourceProperties.Replica> configured = replicaDataSourceProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(Optional.ofNullable(replica.getUsername()).orElse(dataSourceProperties.getUsername()));
+            dataSource.setPassword(Optional.ofNullable(replica.getPassword()).orElse(dataSourceProperties.getPassword()));
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setDataSourceProperties(pgJdbcProperties.toDriverProperties());
+            dataSource.setMetricRegistry(meterRegistry);
+            replicas.add(dataSource);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, recentWriteStore,
+                replicaDataSourceProperties.getMaxLag(), replicaDataSourceProperties.getStickiness(), meterRegistry);
+    }
+
+    /**
+     * Creates the JDBC datasource used by JPA.
+     * With replicas configured, connections are fetched lazily so the routing sees whether the transaction is read-only.
+     *
+     * @param primaryDataSource        The datasource of the primary database
+     * @param replicaRoutingDataSource The routing datasource
+     * @return The datasource used for all JDBC access
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        if (!replicaRoutingDataSource.hasReplicas()) {
+            return primaryDataSource;
+        }
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,42 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.serializers.OrderDtoSerializer;
+import com.aren.orderserver.web.serializers.StatisticsDtoSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.NativeDetector;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Configures and provides the module replacing reflective property access with generated lambdas
+     * for every type that has no serializer of its own.
+     * A native image can not define classes at runtime, so there the module is left empty and Jackson keeps using reflection.
+     *
+     * @return BlackbirdModule, or an empty module in a native image, registered with every ObjectMapper built by the application
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("BlackbirdDisabled") : new BlackbirdModule();
+    }
+
+    /**
+     * Configures and provides the module with the hand-written serializers of the order list and statistics responses.
+     *
+     * @return SimpleModule registered with every ObjectMapper built by the application
+     */
+    @Bean
+    public Module orderSerializationModule() {
+        SimpleModule module = new SimpleModule("OrderSerializationModule");
+        module.addSerializer(OrderDto.class, new OrderDtoSerializer());
+        module.addSerializer(StatisticsDto.class, new StatisticsDtoSerializer());
+        return module;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.annotations.EmailValidator;
+import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.exceptions.ExceptionBody;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.io.Serializable;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Registers the native image metadata Spring AOT can not derive from the bean definitions, controllers and entities:
+ * classes loaded by name, values serialized outside of Spring MVC and JDK proxies created by libraries.
+ * Redisson and the PostgreSQL drivers ship their own metadata.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Implementations jjwt-api instantiates by name, and the Jackson serializers it discovers through ServiceLoader.
+     */
+    private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer");
+
+    /**
+     * Values the Redis cache stores with JDK serialization: orders with their users, and ownership checks.
+     */
+    private static final List<Class<? extends Serializable>> CACHED_TYPES = List.of(
+            Order.class, User.class, OrderStatus.class, UserRole.class, OffsetDateTime.class,
+            Enum.class, Number.class, Integer.class, Long.class, Boolean.class);
+
+    /**
+     * JDBC objects the datasource-proxy behind the query observations wraps in JDK proxies.
+     */
+    private static final List<Class<?>> OBSERVED_JDBC_TYPES = List.of(
+            Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class);
+
+    private static final String DATASOURCE_PROXY_MARKER = "net.ttddyy.dsproxy.proxy.ProxyJdbcObject";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        JJWT_IMPLEMENTATIONS.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        CACHED_TYPES.forEach(hints.serialization()::registerType);
+        hints.serialization().registerType(TypeReference.of("java.time.Ser"));
+
+        OBSERVED_JDBC_TYPES.forEach(type -> hints.proxies().registerJdkProxy(
+                TypeReference.of(DATASOURCE_PROXY_MARKER), TypeReference.of(type)));
+
+        // Written by their own ObjectMappers: SSE notifications, the cached statistics in Redis and rate limit rejections.
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                OrderEventDto.class, StatisticsDto.class, ExceptionBody.class);
+
+        // Request bodies Hibernate Validator introspects, and the validator it instantiates for @CheckEmail.
+        ValidationConfig.VALIDATED_TYPES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS));
+        hints.reflection().registerType(EmailValidator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+import java.util.List;
+
+@Configuration
+public class R2dbcConfig {
+
+    /**
+     * Registers the conversions between the smallint status and role codes and their enums,
+     * matching the JPA attribute converters so both data access paths read the same columns.
+     *
+     * @param connectionFactory The R2DBC connection factory used to resolve the dialect
+     * @return R2dbcCustomConversions with the dialect conversions and the code converters
+     */
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), List.of(
+                new OrderStatusReadingConverter(),
+                new OrderStatusWritingConverter(),
+                new UserRoleReadingConverter(),
+                new UserRoleWritingConverter()
+        ));
+    }
+
+    @ReadingConverter
+    static class OrderStatusReadingConverter implements Converter<Short, OrderStatus> {
+
+        @Override
+        public OrderStatus convert(Short code) {
+            return OrderStatus.fromCode(code);
+        }
+    }
+
+    @WritingConverter
+    static class OrderStatusWritingConverter implements Converter<OrderStatus, Short> {
+
+        @Override
+        public Short convert(OrderStatus status) {
+            return status.getCode();
+        }
+    }
+
+    @ReadingConverter
+    static class UserRoleReadingConverter implements Converter<Short, UserRole> {
+
+        @Override
+        public UserRole convert(Short code) {
+            return UserRole.fromCode(code);
+        }
+    }
+
+    @WritingConverter
+    static class UserRoleWritingConverter implements Converter<UserRole, Short> {
+
+        @Override
+        public Short convert(UserRole role) {
+            return role.getCode();
+        }
+    }
+}
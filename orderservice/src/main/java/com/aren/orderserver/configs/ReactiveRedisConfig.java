@@ -0,0 +1,29 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.web.dto.StatisticsDto;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration
+public class ReactiveRedisConfig {
+
+    /**
+     * Creates a reactive Redis template used to cache order statistics for the reactive read endpoints.
+     *
+     * @param connectionFactory The reactive connection factory backed by the Redisson client
+     * @return ReactiveRedisTemplate with string keys and JSON encoded StatisticsDto values
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, StatisticsDto> statisticsRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        RedisSerializationContext<String, StatisticsDto> context = RedisSerializationContext
+                .<String, StatisticsDto>newSerializationContext(new StringRedisSerializer())
+                .value(new Jackson2JsonRedisSerializer<>(StatisticsDto.class))
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
+}
@@ -1,23 +1,156 @@
 package com.aren.orderserver.configs;
 
+import com.aren.orderserver.configs.properties.RedisClientProperties;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.BaseConfig;
+import org.redisson.config.BaseMasterSlaveServersConfig;
 import org.redisson.config.Config;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
 
 @Configuration
+@EnableConfigurationProperties(RedisProperties.class)
 public class RedissonConfig {
 
     /**
      * Creates and configures a RedissonClient bean.
      *
-     * @return RedissonClient instance configured to connect to Redis server
+     * @param redisProperties The spring.data.redis connection properties
+     * @param properties      The topology, connection pool and timeout settings
+     * @return RedissonClient instance configured to connect to Redis
+     */
+    @Bean
+    @Primary
+    public RedissonClient redissonClient(RedisProperties redisProperties, RedisClientProperties properties) {
+        return Redisson.create(createConfig(redisProperties, properties));
+    }
+
+    /**
+     * Creates the RedissonClient blocking reads run on. Its small pool is separate from the shared one,
+     * so long-polls waiting for new events can not starve other Redis commands of connections.
+     *
+     * @param redisProperties The spring.data.redis connection properties
+     * @param properties      The topology, timeout and orders.redis.blocking-reads settings
+     * @return RedissonClient instance reserved for blocking reads
      */
     @Bean
-    public RedissonClient redissonClient() {
+    public RedissonClient blockingRedissonClient(RedisProperties redisProperties, RedisClientProperties properties) {
+        return Redisson.create(createBlockingConfig(redisProperties, properties));
+    }
+
+    /**
+     * Builds the Redisson configuration for the configured topology.
+     * Single and sentinel modes read their addresses from spring.data.redis, cluster mode from
+     * spring.data.redis.cluster.nodes and replicated mode from orders.redis.replicated-nodes.
+     * In multi-node modes reads go to the nodes selected by orders.redis.read-mode.
+     * With orders.redis.lazy-initialization the client connects on the first command instead of on creation.
+     *
+     * @param redisProperties The spring.data.redis connection properties
+     * @param properties      The topology, connection pool and timeout settings
+     * @return The Redisson configuration
+     * @throws IllegalStateException if the nodes required by the mode are not configured
+     */
+    static Config createConfig(RedisProperties redisProperties, RedisClientProperties properties) {
+        return createConfig(redisProperties, properties, properties.getConnectionPoolSize(),
+                properties.getConnectionMinimumIdleSize(), properties.getNettyThreads());
+    }
+
+    /**
+     * Builds the Redisson configuration for blocking reads: the same topology and timeouts as
+     * {@link #createConfig(RedisProperties, RedisClientProperties)}, with the orders.redis.blocking-reads pool.
+     *
+     * @param redisProperties The spring.data.redis connection properties
+     * @param properties      The topology, timeout and orders.redis.blocking-reads settings
+     * @return The Redisson configuration
+     * @throws IllegalStateException if the nodes required by the mode are not configured
+     */
+    static Config createBlockingConfig(RedisProperties redisProperties, RedisClientProperties properties) {
+        RedisClientProperties.BlockingReads blockingReads = properties.getBlockingReads();
+        return createConfig(redisProperties, properties, blockingReads.getConnectionPoolSize(), 1,
+                blockingReads.getNettyThreads());
+    }
+
+    private static Config createConfig(RedisProperties redisProperties,
+                                       RedisClientProperties properties,
+                                       int poolSize,
+                                       int minimumIdleSize,
+                                       int nettyThreads) {
         Config config = new Config();
-        config.useSingleServer().setAddress("redis://localhost:6379");
-        return Redisson.create(config);
+        config.setNettyThreads(nettyThreads);
+        config.setLazyInitialization(properties.isLazyInitialization());
+        String scheme = redisProperties.getSsl().isEnabled() ? "rediss://" : "redis://";
+
+        switch (properties.getMode()) {
+            case SINGLE -> applyCommon(config.useSingleServer(), redisProperties, properties)
+                    .setAddress(scheme + redisProperties.getHost() + ":" + redisProperties.getPort())
+                    .setDatabase(redisProperties.getDatabase())
+                    .setConnectionPoolSize(poolSize)
+                    .setConnectionMinimumIdleSize(minimumIdleSize)
+                    .setSubscriptionConnectionPoolSize(properties.getSubscriptionConnectionPoolSize());
+            case SENTINEL -> {
+                RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+                if (sentinel == null || sentinel.getMaster() == null) {
+                    throw new IllegalStateException("spring.data.redis.sentinel.master is required in sentinel mode");
+                }
+                applyMasterSlave(config.useSentinelServers(), redisProperties, properties, poolSize, minimumIdleSize)
+                        .setMasterName(sentinel.getMaster())
+                        .addSentinelAddress(addresses(scheme, sentinel.getNodes(), "spring.data.redis.sentinel.nodes"))
+                        .setDatabase(redisProperties.getDatabase());
+            }
+            case CLUSTER -> {
+                RedisProperties.Cluster cluster = redisProperties.getCluster();
+                applyMasterSlave(config.useClusterServers(), redisProperties, properties, poolSize, minimumIdleSize)
+                        .addNodeAddress(addresses(scheme, cluster == null ? null : cluster.getNodes(),
+                                "spring.data.redis.cluster.nodes"));
+            }
+            case REPLICATED -> applyMasterSlave(config.useReplicatedServers(), redisProperties, properties,
+                            poolSize, minimumIdleSize)
+                    .addNodeAddress(addresses(scheme, properties.getReplicatedNodes(), "orders.redis.replicated-nodes"))
+                    .setDatabase(redisProperties.getDatabase());
+        }
+        return config;
+    }
+
+    private static <T extends BaseMasterSlaveServersConfig<T>> T applyMasterSlave(T config,
+                                                                                  RedisProperties redisProperties,
+                                                                                  RedisClientProperties properties,
+                                                                                  int poolSize,
+                                                                                  int minimumIdleSize) {
+        return applyCommon(config, redisProperties, properties)
+                .setReadMode(properties.getReadMode())
+                .setMasterConnectionPoolSize(poolSize)
+                .setMasterConnectionMinimumIdleSize(minimumIdleSize)
+                .setSlaveConnectionPoolSize(poolSize)
+                .setSlaveConnectionMinimumIdleSize(minimumIdleSize)
+                .setSubscriptionConnectionPoolSize(properties.getSubscriptionConnectionPoolSize());
+    }
+
+    private static <T extends BaseConfig<T>> T applyCommon(T config,
+                                                          RedisProperties redisProperties,
+                                                          RedisClientProperties properties) {
+        return config
+                .setUsername(redisProperties.getUsername())
+                .setPassword(redisProperties.getPassword())
+                .setTimeout((int) properties.getTimeout().toMillis())
+                .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                .setIdleConnectionTimeout((int) properties.getIdleConnectionTimeout().toMillis())
+                .setRetryAttempts(properties.getRetryAttempts())
+                .setRetryInterval((int) properties.getRetryInterval().toMillis())
+                .setPingConnectionInterval((int) properties.getPingConnectionInterval().toMillis());
+    }
+
+    private static String[] addresses(String scheme, List<String> nodes, String property) {
+        if (nodes == null || nodes.isEmpty()) {
+            throw new IllegalStateException(property + " is required in this Redis mode");
+        }
+        return nodes.stream()
+                .map(node -> node.contains("://") ? node : scheme + node)
+                .toArray(String[]::new);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.configs.properties.TracingExportProperties;
+import com.aren.orderserver.web.tracing.FileSpanExporter;
+import com.aren.orderserver.web.tracing.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Span exporters selected by tracing.export.type. Both beans always exist and the type is read when they are created,
+ * so an AOT build does not freeze the choice made at build time; the exporter not selected drops every span.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Creates a span exporter keeping finished spans in memory, so tests can assert on them.
+     *
+     * @param properties The tracing export properties holding the type and the number of spans kept
+     * @return InMemorySpanExporter picked up by the OpenTelemetry span processor, or a no-op exporter
+     */
+    @Bean
+    public SpanExporter inMemorySpanExporter(TracingExportProperties properties) {
+        if (!"memory".equals(properties.getType())) {
+            return SpanExporter.composite();
+        }
+        return new InMemorySpanExporter(properties.getMemoryCapacity());
+    }
+
+    /**
+     * Creates a span exporter appending finished spans to a JSON lines file.
+     *
+     * @param properties The tracing export properties holding the type and the file path
+     * @return FileSpanExporter picked up by the OpenTelemetry span processor, or a no-op exporter
+     */
+    @Bean
+    public SpanExporter fileSpanExporter(TracingExportProperties properties) {
+        if (!"file".equals(properties.getType())) {
+            return SpanExporter.composite();
+        }
+        return new FileSpanExporter(Path.of(properties.getFile()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.dto.OrderEventOffsetDto;
+import com.aren.orderserver.web.dto.UserDto;
+import com.aren.orderserver.web.dto.UserImportDto;
+import com.aren.orderserver.web.dto.auth.JwtRequest;
+import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.annotation.ElementType;
+import java.util.List;
+
+@Configuration
+public class ValidationConfig {
+
+    static final List<Class<?>> VALIDATED_TYPES = List.of(
+            OrderDto.class, UserDto.class, UserImportDto.class, JwtRequest.class, OrderEventOffsetDto.class);
+
+    /**
+     * Configures the validator to visit every property of a validated object.
+     * With JPA on the classpath Hibernate Validator otherwise asks the persistence provider, property by property
+     * on every validation, whether the property is loaded; request bodies are plain DTOs, so the answer is always yes.
+     *
+     * @return ValidationConfigurationCustomizer applied to the application Validator
+     */
+    @Bean
+    public ValidationConfigurationCustomizer validationConfigurationCustomizer() {
+        return configuration -> configuration.traversableResolver(new TraversableResolver() {
+            @Override
+            public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                       Path pathToTraversableObject, ElementType elementType) {
+                return true;
+            }
+
+            @Override
+            public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                        Path pathToTraversableObject, ElementType elementType) {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Resolves the constraint metadata of the request bodies, including their OnCreate and OnUpdate groups,
+     * once the application is ready, so the first requests do not pay for it.
+     *
+     * @param validator The application Validator caching the metadata
+     * @return ApplicationListener warming up the validator
+     */
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> validatorWarmUp(Validator validator) {
+        return event -> VALIDATED_TYPES.forEach(validator::getConstraintsForClass);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.aren.orderserver.configs.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.idempotency")
+public class IdempotencyProperties {
+
+    private Duration ttl = Duration.ofHours(24);
+    private Duration inProgressTimeout = Duration.ofSeconds(30);
+    private int maxKeyLength = 255;
+    private int localCapacity = 10_000;
+    private Duration localTtl = Duration.ofMinutes(5);
+
+}
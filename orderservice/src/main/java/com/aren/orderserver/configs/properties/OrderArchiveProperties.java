@@ -0,0 +1,19 @@
+package com.aren.orderserver.configs.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.archive")
+public class OrderArchiveProperties {
+
+    private Duration archiveAfter = Duration.ofDays(30);
+    private int batchSize = 1000;
+
+}
@@ -0,0 +1,22 @@
+package com.aren.orderserver.configs.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.events")
+public class OrderEventProperties {
+
+    private String stream = "orders:events";
+    private int maxLength = 1_000_000;
+    private int batchSize = 500;
+    private int maxReadCount = 1000;
+    private Duration maxWait = Duration.ofSeconds(10);
+
+}
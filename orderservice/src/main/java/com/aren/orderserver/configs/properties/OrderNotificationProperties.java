@@ -0,0 +1,23 @@
+package com.aren.orderserver.configs.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.notifications")
+public class OrderNotificationProperties {
+
+    private int maxConnections = 10_000;
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofMinutes(30);
+    private int batchSize = 256;
+    private Duration pollWait = Duration.ofSeconds(5);
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+}
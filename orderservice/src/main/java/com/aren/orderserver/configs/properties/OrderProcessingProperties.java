@@ -0,0 +1,20 @@
+package com.aren.orderserver.configs.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.processing")
+public class OrderProcessingProperties {
+
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofMillis(20);
+    private boolean distributedLock = false;
+
+}
@@ -0,0 +1,48 @@
+package com.aren.orderserver.configs.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Properties;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "orders.jdbc")
+public class PgJdbcProperties {
+
+    @Min(0)
+    private int prepareThreshold = 5;
+
+    @Min(0)
+    private int preparedStatementCacheQueries = 256;
+
+    @Min(0)
+    private int preparedStatementCacheSizeMib = 5;
+
+    @Min(0)
+    private int defaultRowFetchSize = 256;
+
+    private boolean reWriteBatchedInserts = true;
+
+    /**
+     * Converts the settings to PgJDBC connection properties.
+     *
+     * @return the driver properties
+     */
+    public Properties toDriverProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("prepareThreshold", String.valueOf(prepareThreshold));
+        properties.setProperty("preparedStatementCacheQueries", String.valueOf(preparedStatementCacheQueries));
+        properties.setProperty("preparedStatementCacheSizeMiB", String.valueOf(preparedStatementCacheSizeMib));
+        properties.setProperty("defaultRowFetchSize", String.valueOf(defaultRowFetchSize));
+        properties.setProperty("reWriteBatchedInserts", String.valueOf(reWriteBatchedInserts));
+        return properties;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.aren.orderserver.configs.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.reactive")
+public class ReactiveReadProperties {
+
+    private Duration statisticsTtl = Duration.ofSeconds(5);
+    private int prefetch = 256;
+
+}
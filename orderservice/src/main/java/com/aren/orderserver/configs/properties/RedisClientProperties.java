@@ -0,0 +1,134 @@
+package com.aren.orderserver.configs.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.redisson.api.BatchOptions;
+import org.redisson.config.ReadMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "orders.redis")
+public class RedisClientProperties {
+
+    @NotNull
+    private Mode mode = Mode.SINGLE;
+
+    @NotNull
+    private ReadMode readMode = ReadMode.MASTER;
+
+    private List<String> replicatedNodes = new ArrayList<>();
+
+    @Min(1)
+    private int connectionPoolSize = 64;
+
+    @Min(0)
+    private int connectionMinimumIdleSize = 24;
+
+    @Min(1)
+    private int subscriptionConnectionPoolSize = 50;
+
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(3);
+
+    @NotNull
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    @NotNull
+    private Duration idleConnectionTimeout = Duration.ofSeconds(10);
+
+    @Min(0)
+    private int retryAttempts = 3;
+
+    @NotNull
+    private Duration retryInterval = Duration.ofMillis(1500);
+
+    @NotNull
+    private Duration pingConnectionInterval = Duration.ofSeconds(30);
+
+    @Min(0)
+    private int nettyThreads = 32;
+
+    private boolean lazyInitialization = false;
+
+    @Valid
+    private Pipeline pipeline = new Pipeline();
+
+    @Valid
+    private BlockingReads blockingReads = new BlockingReads();
+
+    @AssertTrue(message = "connection-minimum-idle-size must not exceed connection-pool-size")
+    public boolean isIdleWithinPool() {
+        return connectionMinimumIdleSize <= connectionPoolSize;
+    }
+
+    public enum Mode {
+        SINGLE, SENTINEL, CLUSTER, REPLICATED
+    }
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+
+        @NotNull
+        private Duration responseTimeout = Duration.ofSeconds(5);
+
+        @Min(0)
+        private int retryAttempts = 3;
+
+        @NotNull
+        private Duration retryInterval = Duration.ofMillis(1500);
+
+        /**
+         * Creates the options for pipelined command batches.
+         *
+         * @return the batch options
+         */
+        public BatchOptions toBatchOptions() {
+            return BatchOptions.defaults()
+                    .executionMode(BatchOptions.ExecutionMode.IN_MEMORY)
+                    .responseTimeout(responseTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .retryAttempts(retryAttempts)
+                    .retryInterval(retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+    }
+
+    /**
+     * The separate client long-polling reads such as XREAD BLOCK run on, so that they never hold connections
+     * of the shared pool.
+     */
+    @Getter
+    @Setter
+    public static class BlockingReads {
+
+        @Min(1)
+        private int connectionPoolSize = 16;
+
+        @Min(1)
+        private int maxConcurrent = 12;
+
+        @Min(1)
+        private int nettyThreads = 4;
+
+        @AssertTrue(message = "blocking-reads.max-concurrent must stay below blocking-reads.connection-pool-size")
+        public boolean isConcurrencyBelowPool() {
+            return maxConcurrent < connectionPoolSize;
+        }
+
+    }
+
+}
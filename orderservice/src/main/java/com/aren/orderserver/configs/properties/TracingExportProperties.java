@@ -0,0 +1,22 @@
+package com.aren.orderserver.configs.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "tracing.export")
+public class TracingExportProperties {
+
+    private String type = "none";
+    @Min(1)
+    private int memoryCapacity = 10000;
+    private String file = "traces.jsonl";
+
+}
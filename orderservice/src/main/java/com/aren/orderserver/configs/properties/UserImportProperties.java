@@ -0,0 +1,26 @@
+package com.aren.orderserver.configs.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "users.import")
+public class UserImportProperties {
+
+    @Min(1)
+    private int batchSize = 500;
+
+    @Min(1)
+    private int maxUsers = 10_000;
+
+    @Min(1)
+    private int hashingParallelism = 4;
+
+}
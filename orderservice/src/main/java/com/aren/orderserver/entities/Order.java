@@ -1,5 +1,6 @@
 package com.aren.orderserver.entities;
 
+import com.aren.orderserver.enums.OrderStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -27,7 +28,7 @@ public class Order implements Serializable {
     private String description;
 
     @Column(name = "status")
-    private String status;
+    private OrderStatus status;
 
     @JoinColumn(name = "created_by")
     @ManyToOne(cascade = {CascadeType.MERGE, CascadeType.DETACH, CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REFRESH})
@@ -43,9 +44,16 @@ public class Order implements Serializable {
     @Column(name = "updated_date")
     private OffsetDateTime updatedDate;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived")
+    private boolean archived;
+
     public Order(String title,
                  String description,
-                 String status,
+                 OrderStatus status,
                  User createdBy,
                  User processedBy,
                  OffsetDateTime createdDate,
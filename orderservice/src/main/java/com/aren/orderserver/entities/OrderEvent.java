@@ -0,0 +1,50 @@
+package com.aren.orderserver.entities;
+
+import com.aren.orderserver.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "order_events")
+@NoArgsConstructor
+@Getter
+@Setter
+public class OrderEvent implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Column(name = "type")
+    private String type;
+
+    @Column(name = "status")
+    private OrderStatus status;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "created_date")
+    private OffsetDateTime createdDate;
+
+    public OrderEvent(Integer orderId,
+                      String type,
+                      OrderStatus status,
+                      Integer userId,
+                      OffsetDateTime createdDate) {
+        this.orderId = orderId;
+        this.type = type;
+        this.status = status;
+        this.userId = userId;
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,48 @@
+package com.aren.orderserver.entities;
+
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table(name = "orders")
+@NoArgsConstructor
+@Getter
+@Setter
+public class OrderView {
+
+    @Id
+    private Integer id;
+
+    private String title;
+
+    private String description;
+
+    private OrderStatus status;
+
+    private Integer createdById;
+
+    private String createdByUsername;
+
+    private String createdByEmail;
+
+    private UserRole createdByRole;
+
+    private Integer processedById;
+
+    private String processedByUsername;
+
+    private String processedByEmail;
+
+    private UserRole processedByRole;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime updatedDate;
+
+}
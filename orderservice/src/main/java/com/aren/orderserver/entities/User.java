@@ -1,5 +1,7 @@
 package com.aren.orderserver.entities;
 
+import com.aren.orderserver.enums.UserRole;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,6 +24,7 @@ public class User implements Serializable {
     @Column(name = "username")
     private String username;
 
+    @JsonIgnore
     @Column(name = "password")
     private String password;
 
@@ -29,12 +32,12 @@ public class User implements Serializable {
     private String email;
 
     @Column(name = "role")
-    private String role;
+    private UserRole role;
 
     public User(String username,
                 String password,
                 String email,
-                String role) {
+                UserRole role) {
         this.username = username;
         this.password = password;
         this.email = email;
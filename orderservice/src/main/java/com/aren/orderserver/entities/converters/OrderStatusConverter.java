@@ -0,0 +1,31 @@
+package com.aren.orderserver.entities.converters;
+
+import com.aren.orderserver.enums.OrderStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class OrderStatusConverter implements AttributeConverter<OrderStatus, Short> {
+
+    /**
+     * Stores the status as its smallint code.
+     *
+     * @param status the status
+     * @return the code, or null if the status is null
+     */
+    @Override
+    public Short convertToDatabaseColumn(OrderStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    /**
+     * Resolves the status from its smallint code.
+     *
+     * @param code the stored code
+     * @return the status, or null if the column is null
+     */
+    @Override
+    public OrderStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : OrderStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,31 @@
+package com.aren.orderserver.entities.converters;
+
+import com.aren.orderserver.enums.UserRole;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class UserRoleConverter implements AttributeConverter<UserRole, Short> {
+
+    /**
+     * Stores the role as its smallint code.
+     *
+     * @param role the role
+     * @return the code, or null if the role is null
+     */
+    @Override
+    public Short convertToDatabaseColumn(UserRole role) {
+        return role == null ? null : role.getCode();
+    }
+
+    /**
+     * Resolves the role from its smallint code.
+     *
+     * @param code the stored code
+     * @return the role, or null if the column is null
+     */
+    @Override
+    public UserRole convertToEntityAttribute(Short code) {
+        return code == null ? null : UserRole.fromCode(code);
+    }
+}
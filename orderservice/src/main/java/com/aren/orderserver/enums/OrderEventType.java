@@ -0,0 +1,10 @@
+package com.aren.orderserver.enums;
+
+public enum OrderEventType {
+
+    PLACED,
+    PROCESSING_STARTED,
+    PROCESSING_COMPLETED,
+    RETURNED_TO_READY,
+    UPDATED
+}
@@ -1,8 +1,83 @@
 package com.aren.orderserver.enums;
 
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.exceptions.OrderProgressException;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
 
-    READY,
-    IN_PROCESS,
-    PROCESSED
+    READY(0),
+    IN_PROCESS(1),
+    PROCESSED(2);
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(READY, EnumSet.of(IN_PROCESS));
+        TRANSITIONS.put(IN_PROCESS, EnumSet.of(PROCESSED, READY));
+        TRANSITIONS.put(PROCESSED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    private final short code;
+
+    OrderStatus(int code) {
+        this.code = (short) code;
+    }
+
+    /**
+     * Returns the code the status is stored as.
+     *
+     * @return the stored code
+     */
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * Resolves a status from its stored code.
+     *
+     * @param code the stored code
+     * @return the status
+     * @throws IllegalArgumentException if no status has the code
+     */
+    public static OrderStatus fromCode(short code) {
+        return switch (code) {
+            case 0 -> READY;
+            case 1 -> IN_PROCESS;
+            case 2 -> PROCESSED;
+            default -> throw new IllegalArgumentException("Unknown order status code: " + code);
+        };
+    }
+
+    /**
+     * Checks whether an order in this status may move to the target status.
+     *
+     * @param target the status to move to
+     * @return true if the transition is allowed, false otherwise
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    /**
+     * Validates a transition from this status.
+     *
+     * @param target the status to move to
+     * @return the target status
+     * @throws OrderProgressException if the transition is not allowed
+     */
+    public OrderStatus transitionTo(OrderStatus target) {
+        if (canTransitionTo(target)) {
+            return target;
+        }
+        throw new OrderProgressException(switch (this) {
+            case READY -> ErrorCode.PROCESSING_NOT_STARTED;
+            case IN_PROCESS -> ErrorCode.ORDER_ALREADY_IN_PROCESS;
+            case PROCESSED -> ErrorCode.ORDER_ALREADY_PROCESSED;
+        });
+    }
 }
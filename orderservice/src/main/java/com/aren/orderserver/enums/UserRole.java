@@ -2,6 +2,38 @@ package com.aren.orderserver.enums;
 
 public enum UserRole {
 
-    POSTER,
-    PROCESSOR
+    POSTER(0),
+    PROCESSOR(1),
+    ADMIN(2);
+
+    private final short code;
+
+    UserRole(int code) {
+        this.code = (short) code;
+    }
+
+    /**
+     * Returns the code the role is stored as.
+     *
+     * @return the stored code
+     */
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * Resolves a role from its stored code.
+     *
+     * @param code the stored code
+     * @return the role
+     * @throws IllegalArgumentException if no role has the code
+     */
+    public static UserRole fromCode(short code) {
+        return switch (code) {
+            case 0 -> POSTER;
+            case 1 -> PROCESSOR;
+            case 2 -> ADMIN;
+            default -> throw new IllegalArgumentException("Unknown user role code: " + code);
+        };
+    }
 }
@@ -1,8 +1,8 @@
 package com.aren.orderserver.exceptions;
 
-public class AccessDeniedException extends RuntimeException {
-    public AccessDeniedException(String message) {
-        super(message);
-    }
+public class AccessDeniedException extends BusinessException {
 
+    public AccessDeniedException(ErrorCode code) {
+        super(code);
+    }
 }
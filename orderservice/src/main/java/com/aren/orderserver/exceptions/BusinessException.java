@@ -0,0 +1,25 @@
+package com.aren.orderserver.exceptions;
+
+/**
+ * Base class of the errors expected in normal operation, such as two processors claiming the same order.
+ * They are answered with a fixed body and never logged, so they are created without a stack trace,
+ * which keeps contention bursts from turning into stack walking.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private final ErrorCode code;
+
+    protected BusinessException(ErrorCode code) {
+        super(code.getMessage(), null, false, false);
+        this.code = code;
+    }
+
+    /**
+     * Returns the machine-readable code of the error.
+     *
+     * @return the code
+     */
+    public ErrorCode getCode() {
+        return code;
+    }
+}
@@ -3,6 +3,7 @@ package com.aren.orderserver.exceptions;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -12,81 +13,130 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class ControllerAdvice {
 
+    /**
+     * Bodies of the errors with a fixed message, created once and shared between responses.
+     */
+    private static final Map<ErrorCode, ExceptionBody> BODIES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            BODIES.put(code, new ExceptionBody(code));
+        }
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ExceptionBody handleResourceNotFoundException(ResourceNotFoundException e) {
-        return new ExceptionBody(e.getMessage());
+        return BODIES.get(e.getCode());
     }
 
     @ExceptionHandler(NoResourceFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ExceptionBody handleResourceNotFoundException() {
-        return new ExceptionBody("Resource not found");
+        return BODIES.get(ErrorCode.RESOURCE_NOT_FOUND);
     }
 
     @ExceptionHandler({AccessDeniedException.class, org.springframework.security.access.AccessDeniedException.class})
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ExceptionBody handleAccessDeniedException() {
-        return new ExceptionBody("Access denied");
+        return BODIES.get(ErrorCode.ACCESS_DENIED);
     }
 
     @ExceptionHandler(OrderProgressException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleOrderProgressException(OrderProgressException e) {
-        return new ExceptionBody(e.getMessage());
+        return BODIES.get(e.getCode());
     }
 
     @ExceptionHandler(IllegalStateException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleIllegalStateException(IllegalStateException e) {
-        return new ExceptionBody(e.getMessage());
+        return new ExceptionBody(ErrorCode.INVALID_REQUEST, e.getMessage());
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleConstraintViolationException(ConstraintViolationException e) {
-        ExceptionBody exceptionBody = new ExceptionBody("Validation failed.");
-        exceptionBody.setErrors(e.getConstraintViolations().stream()
+        return validationFailed(e.getConstraintViolations().stream()
                 .collect(Collectors.toMap(
                         violation -> violation.getPropertyPath().toString(),
                         ConstraintViolation::getMessage
                 )));
-        return exceptionBody;
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
-        ExceptionBody exceptionBody = new ExceptionBody("Validation failed.");
         List<FieldError> errors = e.getBindingResult().getFieldErrors();
-        exceptionBody.setErrors(errors.stream()
+        return validationFailed(errors.stream()
                 .collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage)));
-        return exceptionBody;
+    }
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionBody handleUserAlreadyExistsException(UserAlreadyExistsException e) {
+        return BODIES.get(e.getCode());
+    }
+
+    @ExceptionHandler(RequestInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionBody handleRequestInProgressException(RequestInProgressException e) {
+        return BODIES.get(e.getCode());
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleDataIntegrityViolationException(DataIntegrityViolationException e) {
-        return new ExceptionBody(e.getMessage());
+        return new ExceptionBody(ErrorCode.INVALID_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionBody handlePasswordHashingRejectedException(PasswordHashingRejectedException e) {
+        return BODIES.get(e.getCode());
+    }
+
+    @ExceptionHandler(SubscriptionRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionBody handleSubscriptionRejectedException(SubscriptionRejectedException e) {
+        return BODIES.get(e.getCode());
+    }
+
+    @ExceptionHandler(EventReadRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionBody handleEventReadRejectedException(EventReadRejectedException e) {
+        return BODIES.get(e.getCode());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionBody handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return BODIES.get(ErrorCode.CONCURRENT_MODIFICATION);
     }
 
     @ExceptionHandler(AuthenticationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleDAuthenticationException(AuthenticationException e) {
-        return new ExceptionBody("Authentication failed.");
+        return BODIES.get(ErrorCode.AUTHENTICATION_FAILED);
     }
 
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ExceptionBody handleException(Exception e) {
-        return new ExceptionBody("Internal Error");
+        return BODIES.get(ErrorCode.INTERNAL_ERROR);
+    }
+
+    private static ExceptionBody validationFailed(Map<String, String> errors) {
+        return new ExceptionBody(ErrorCode.VALIDATION_FAILED, ErrorCode.VALIDATION_FAILED.getMessage(), errors);
     }
 
 }
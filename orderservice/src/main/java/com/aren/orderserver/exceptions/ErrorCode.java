@@ -0,0 +1,39 @@
+package com.aren.orderserver.exceptions;
+
+public enum ErrorCode {
+
+    RESOURCE_NOT_FOUND("Resource not found"),
+    ORDER_NOT_FOUND("Order not found"),
+    USER_NOT_FOUND("User not found"),
+    ACCESS_DENIED("Access denied"),
+    PROCESSING_NOT_STARTED("Processing was not started."),
+    ORDER_ALREADY_IN_PROCESS("Order already is processing by another user"),
+    ORDER_ALREADY_PROCESSED("Order already processed"),
+    NOT_ORDER_PROCESSOR("You cannot complete processing for this order"),
+    REQUEST_IN_PROGRESS("A request with this idempotency key is still in progress"),
+    USER_ALREADY_EXISTS("User with this username or email already exists"),
+    CONCURRENT_MODIFICATION("Order was modified concurrently, try again."),
+    VALIDATION_FAILED("Validation failed."),
+    INVALID_REQUEST("Invalid request."),
+    AUTHENTICATION_FAILED("Authentication failed."),
+    RATE_LIMITED("Too many requests, slow down."),
+    SERVER_BUSY("Server is busy, try again later."),
+    TOO_MANY_SUBSCRIBERS("Too many subscribers, try again later."),
+    TOO_MANY_EVENT_READERS("Too many readers are waiting for events, try again later."),
+    INTERNAL_ERROR("Internal Error");
+
+    private final String message;
+
+    ErrorCode(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the message sent to clients together with the code.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+}
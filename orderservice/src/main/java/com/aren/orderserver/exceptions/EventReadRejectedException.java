@@ -0,0 +1,8 @@
+package com.aren.orderserver.exceptions;
+
+public class EventReadRejectedException extends BusinessException {
+
+    public EventReadRejectedException(ErrorCode code) {
+        super(code);
+    }
+}
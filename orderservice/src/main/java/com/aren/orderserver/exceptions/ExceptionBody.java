@@ -1,18 +1,30 @@
 package com.aren.orderserver.exceptions;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 
 import java.util.Map;
 
-@Data
-@AllArgsConstructor
+/**
+ * Error response body. Immutable, so the bodies of the fixed-message errors can be shared between responses.
+ */
+@Getter
 public class ExceptionBody {
 
-    private String message;
-    private Map<String, String> errors;
+    private final ErrorCode code;
+    private final String message;
+    private final Map<String, String> errors;
 
-    public ExceptionBody(String message) {
+    public ExceptionBody(ErrorCode code) {
+        this(code, code.getMessage(), null);
+    }
+
+    public ExceptionBody(ErrorCode code, String message) {
+        this(code, message, null);
+    }
+
+    public ExceptionBody(ErrorCode code, String message, Map<String, String> errors) {
+        this.code = code;
         this.message = message;
+        this.errors = errors == null ? null : Map.copyOf(errors);
     }
 }
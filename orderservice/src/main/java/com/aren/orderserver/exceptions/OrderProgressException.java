@@ -1,7 +1,8 @@
 package com.aren.orderserver.exceptions;
 
-public class OrderProgressException extends RuntimeException {
-    public OrderProgressException(String message) {
-        super(message);
+public class OrderProgressException extends BusinessException {
+
+    public OrderProgressException(ErrorCode code) {
+        super(code);
     }
 }
@@ -0,0 +1,8 @@
+package com.aren.orderserver.exceptions;
+
+public class PasswordHashingRejectedException extends BusinessException {
+
+    public PasswordHashingRejectedException(ErrorCode code) {
+        super(code);
+    }
+}
@@ -0,0 +1,8 @@
+package com.aren.orderserver.exceptions;
+
+public class RequestInProgressException extends BusinessException {
+
+    public RequestInProgressException(ErrorCode code) {
+        super(code);
+    }
+}
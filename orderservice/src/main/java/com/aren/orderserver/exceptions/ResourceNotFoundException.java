@@ -1,8 +1,8 @@
 package com.aren.orderserver.exceptions;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends BusinessException {
 
-    public ResourceNotFoundException(String message) {
-        super(message);
+    public ResourceNotFoundException(ErrorCode code) {
+        super(code);
     }
 }
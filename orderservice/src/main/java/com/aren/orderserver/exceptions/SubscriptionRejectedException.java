@@ -0,0 +1,8 @@
+package com.aren.orderserver.exceptions;
+
+public class SubscriptionRejectedException extends BusinessException {
+
+    public SubscriptionRejectedException(ErrorCode code) {
+        super(code);
+    }
+}
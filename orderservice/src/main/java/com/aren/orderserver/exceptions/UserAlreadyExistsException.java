@@ -0,0 +1,8 @@
+package com.aren.orderserver.exceptions;
+
+public class UserAlreadyExistsException extends BusinessException {
+
+    public UserAlreadyExistsException(ErrorCode code) {
+        super(code);
+    }
+}
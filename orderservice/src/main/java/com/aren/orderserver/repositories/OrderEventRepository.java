@@ -0,0 +1,15 @@
+package com.aren.orderserver.repositories;
+
+import com.aren.orderserver.entities.OrderEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Long> {
+
+    List<OrderEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+}
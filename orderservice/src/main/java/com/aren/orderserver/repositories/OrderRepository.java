@@ -1,19 +1,67 @@
 package com.aren.orderserver.repositories;
 
 import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.enums.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 
-    List<Order> getOrderByStatus(String status);
+    List<Order> findAllByArchivedFalse();
+
+    List<Order> findAllByArchivedFalseAndCreatedById(Integer userId);
+
+    /**
+     * Retrieves the orders with a status that are not archived, so only the hot partition is scanned.
+     *
+     * @param status The status
+     * @return List of orders with the status
+     */
+    @Query("SELECT o FROM Order o WHERE o.archived = false AND o.status = :status")
+    List<Order> getOrderByStatus(@Param("status") OrderStatus status);
+
+    /**
+     * Counts the orders with a status that are not archived, so only the hot partition is scanned.
+     *
+     * @param status The status
+     * @return The number of orders with the status
+     */
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.archived = false AND o.status = :status")
+    long countByStatus(@Param("status") OrderStatus status);
+
+    /**
+     * Counts all orders, the hot partition row by row and the archive through the counter kept by
+     * archive_processed_orders, so no archive partition is scanned.
+     *
+     * @return The number of orders
+     */
+    @Query(value = """
+            SELECT (SELECT COUNT(*) FROM orders WHERE archived = FALSE)
+                   + (SELECT archived FROM order_archive_stats WHERE id = 1)
+            """, nativeQuery = true)
+    long countIncludingArchived();
 
     @Query("SELECT CASE WHEN COUNT(o) > 0 THEN true ELSE false END FROM Order o WHERE o.id = :orderId AND o.createdBy.id = :userId")
     boolean isOrderOwner(@Param("userId") Integer userId, @Param("orderId") Integer orderId);
 
+    /**
+     * Moves a batch of orders with a status last updated before the cutoff to the archive partitions.
+     *
+     * @param cutoff    The time before which orders must have been last updated
+     * @param status    The status code of the orders to archive
+     * @param batchSize The maximum number of orders to move
+     * @return The IDs of the orders moved
+     */
+    @Query(value = "SELECT * FROM archive_processed_orders(CAST(:cutoff AS TIMESTAMP), CAST(:status AS SMALLINT), :batchSize)",
+            nativeQuery = true)
+    List<Integer> archiveOrders(@Param("cutoff") OffsetDateTime cutoff,
+                                @Param("status") short status,
+                                @Param("batchSize") int batchSize);
+
 }
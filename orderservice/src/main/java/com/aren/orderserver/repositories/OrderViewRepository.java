@@ -0,0 +1,56 @@
+package com.aren.orderserver.repositories;
+
+import com.aren.orderserver.entities.OrderView;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface OrderViewRepository extends R2dbcRepository<OrderView, Integer> {
+
+    String SELECT_VIEW = """
+            SELECT o.id, o.title, o.description, o.status, o.created_date, o.updated_date,
+                   c.id AS created_by_id, c.username AS created_by_username,
+                   c.email AS created_by_email, c.role AS created_by_role,
+                   p.id AS processed_by_id, p.username AS processed_by_username,
+                   p.email AS processed_by_email, p.role AS processed_by_role
+            FROM orders o
+            LEFT JOIN users c ON c.id = o.created_by
+            LEFT JOIN users p ON p.id = o.updated_by
+            """;
+
+    @Query(SELECT_VIEW + "WHERE o.archived = FALSE ORDER BY o.id")
+    Flux<OrderView> findAllViews();
+
+    @Query(SELECT_VIEW + "WHERE o.archived = FALSE AND o.created_by = :userId ORDER BY o.id")
+    Flux<OrderView> findAllViewsByCreator(Integer userId);
+
+    @Query(SELECT_VIEW + "WHERE o.archived = FALSE AND o.status = :status ORDER BY o.id")
+    Flux<OrderView> findAllViewsByStatus(short status);
+
+    /**
+     * Counts orders by status in one scan of the hot partition; archived orders, all processed, come from the counter
+     * kept by archive_processed_orders. The literals are the {@link com.aren.orderserver.enums.OrderStatus} codes.
+     *
+     * @return Mono of StatisticsDto containing total, ready, processed, and in-process orders
+     */
+    @Query("""
+            SELECT h.total + a.archived AS total,
+                   h.ready,
+                   h.in_process,
+                   h.processed + a.archived AS processed
+            FROM (SELECT COUNT(*) AS total,
+                         COUNT(*) FILTER (WHERE status = 0) AS ready,
+                         COUNT(*) FILTER (WHERE status = 1) AS in_process,
+                         COUNT(*) FILTER (WHERE status = 2) AS processed
+                  FROM orders
+                  WHERE archived = FALSE) h
+            CROSS JOIN order_archive_stats a
+            WHERE a.id = 1
+            """)
+    Mono<StatisticsDto> getStatistics();
+
+}
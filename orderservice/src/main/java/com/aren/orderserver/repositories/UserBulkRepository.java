@@ -0,0 +1,11 @@
+package com.aren.orderserver.repositories;
+
+import com.aren.orderserver.entities.User;
+
+import java.util.List;
+
+public interface UserBulkRepository {
+
+    List<User> insertIgnoringConflicts(List<User> users);
+
+}
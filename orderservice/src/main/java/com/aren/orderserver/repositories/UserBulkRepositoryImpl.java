@@ -0,0 +1,62 @@
+package com.aren.orderserver.repositories;
+
+import com.aren.orderserver.entities.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class UserBulkRepositoryImpl implements UserBulkRepository {
+
+    private static final String INSERT_USERS = """
+            INSERT INTO users (username, password, email, role)
+            SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::smallint[])
+            ON CONFLICT DO NOTHING
+            RETURNING id, username
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the users in a single statement, skipping any whose username or email is already taken,
+     * including by an earlier user in the same list.
+     *
+     * @param users the users to insert, with their passwords already hashed
+     * @return the inserted users with their generated IDs, in input order
+     */
+    @Override
+    public List<User> insertIgnoringConflicts(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Integer> ids = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_USERS);
+            statement.setArray(1, connection.createArrayOf("varchar",
+                    users.stream().map(User::getUsername).toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar",
+                    users.stream().map(User::getPassword).toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar",
+                    users.stream().map(User::getEmail).toArray()));
+            statement.setArray(4, connection.createArrayOf("int2",
+                    users.stream().map(user -> user.getRole() == null ? null : user.getRole().getCode()).toArray()));
+            return statement;
+        }, resultSet -> {
+            ids.put(resultSet.getString("username"), resultSet.getInt("id"));
+        });
+        List<User> inserted = new ArrayList<>(ids.size());
+        for (User user : users) {
+            Integer id = ids.remove(user.getUsername());
+            if (id != null) {
+                user.setId(id);
+                inserted.add(user);
+            }
+        }
+        return inserted;
+    }
+}
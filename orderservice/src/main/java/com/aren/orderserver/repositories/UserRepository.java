@@ -4,6 +4,11 @@ import com.aren.orderserver.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, Integer> {
+public interface UserRepository extends JpaRepository<User, Integer>, UserBulkRepository {
+
+    Optional<User> findByUsername(String username);
+
 }
@@ -7,5 +7,6 @@ public interface AuthService {
 
     JwtResponse login(JwtRequest login);
     JwtResponse refresh(String refreshToken);
+    void logout(String refreshToken);
 
 }
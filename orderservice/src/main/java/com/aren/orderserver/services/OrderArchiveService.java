@@ -0,0 +1,9 @@
+package com.aren.orderserver.services;
+
+import java.util.List;
+
+public interface OrderArchiveService {
+
+    List<Integer> archiveProcessed();
+
+}
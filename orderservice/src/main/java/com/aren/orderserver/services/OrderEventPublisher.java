@@ -0,0 +1,15 @@
+package com.aren.orderserver.services;
+
+import com.aren.orderserver.entities.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Publishes outbox events to the broker downstream consumers read from.
+ * The Redis Streams implementation is used unless another implementation is registered as {@code @Primary}.
+ */
+public interface OrderEventPublisher {
+
+    void publish(List<OrderEvent> events);
+
+}
@@ -0,0 +1,20 @@
+package com.aren.orderserver.services;
+
+import com.aren.orderserver.web.dto.OrderEventDto;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface OrderEventService {
+
+    int relayPending();
+
+    List<OrderEventDto> getEvents(String after, String consumer, int limit, Duration wait);
+
+    String getOffset(String consumer);
+
+    String getLatestOffset();
+
+    void commitOffset(String consumer, String offset);
+
+}
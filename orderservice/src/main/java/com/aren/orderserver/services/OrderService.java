@@ -26,4 +26,6 @@ public interface OrderService {
     boolean isOrderOwner(Integer userId, Integer orderId);
 
     void updateOrder(Order order);
+
+    Order returnToReady(Order order);
 }
@@ -0,0 +1,15 @@
+package com.aren.orderserver.services;
+
+import com.aren.orderserver.entities.OrderView;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveOrderService {
+
+    Flux<OrderView> getOrders();
+
+    Flux<OrderView> getReadyToProcess();
+
+    Mono<StatisticsDto> getStatistics();
+}
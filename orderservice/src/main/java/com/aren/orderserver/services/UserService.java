@@ -2,10 +2,16 @@ package com.aren.orderserver.services;
 
 import com.aren.orderserver.entities.User;
 
+import java.util.List;
+
 public interface UserService {
     User addUser(User user);
 
+    List<User> importUsers(List<User> users);
+
     User getUser(Integer id);
 
     User getUserByUsername(String username);
+
+    User updatePassword(String username, String encodedPassword);
 }
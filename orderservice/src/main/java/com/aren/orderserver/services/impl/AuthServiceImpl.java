@@ -48,4 +48,14 @@ public class AuthServiceImpl implements AuthService {
     public JwtResponse refresh(String refreshToken) {
         return jwtTokenProvider.refreshUserTokens(refreshToken);
     }
+
+    /**
+     * Logs out the User by revoking the provided refresh token and every token rotated from it.
+     *
+     * @param refreshToken The refresh token to revoke
+     */
+    @Override
+    public void logout(String refreshToken) {
+        jwtTokenProvider.revokeRefreshToken(refreshToken);
+    }
 }
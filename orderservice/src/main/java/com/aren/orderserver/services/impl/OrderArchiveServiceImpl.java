@@ -0,0 +1,34 @@
+package com.aren.orderserver.services.impl;
+
+import com.aren.orderserver.configs.properties.OrderArchiveProperties;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.repositories.OrderRepository;
+import com.aren.orderserver.services.OrderArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveProperties orderArchiveProperties;
+
+    /**
+     * Moves the oldest batch of processed orders that have not changed for the configured period to the archive.
+     * Orders locked by a concurrent transaction are skipped and picked up on a later run.
+     *
+     * @return The IDs of the orders archived
+     */
+    @Override
+    @Transactional
+    public List<Integer> archiveProcessed() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(orderArchiveProperties.getArchiveAfter());
+        return orderRepository.archiveOrders(cutoff, OrderStatus.PROCESSED.getCode(),
+                orderArchiveProperties.getBatchSize());
+    }
+}
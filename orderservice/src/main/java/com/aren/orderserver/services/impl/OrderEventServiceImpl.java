@@ -0,0 +1,129 @@
+package com.aren.orderserver.services.impl;
+
+import com.aren.orderserver.configs.properties.OrderEventProperties;
+import com.aren.orderserver.entities.OrderEvent;
+import com.aren.orderserver.repositories.OrderEventRepository;
+import com.aren.orderserver.services.OrderEventPublisher;
+import com.aren.orderserver.services.OrderEventService;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import com.aren.orderserver.web.redis.OrderEventStream;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.StreamMessageId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OrderEventServiceImpl implements OrderEventService {
+
+    private static final String FIRST_OFFSET = "0-0";
+
+    private final OrderEventRepository orderEventRepository;
+    private final OrderEventPublisher orderEventPublisher;
+    private final OrderEventStream orderEventStream;
+    private final OrderEventProperties orderEventProperties;
+
+    /**
+     * Publishes the oldest batch of outbox events and removes them from the outbox.
+     * If publishing fails the transaction rolls back and the batch is retried on the next run.
+     *
+     * @return The number of events published
+     */
+    @Override
+    @Transactional
+    public int relayPending() {
+        List<OrderEvent> events = orderEventRepository.findAllByOrderByIdAsc(
+                PageRequest.of(0, orderEventProperties.getBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        orderEventPublisher.publish(events);
+        orderEventRepository.deleteAllInBatch(events);
+        return events.size();
+    }
+
+    /**
+     * Retrieves the events published after an offset.
+     * Without an explicit offset, reading resumes from the offset committed by the consumer, or from the start.
+     *
+     * @param after    The offset of the last event already seen, or null
+     * @param consumer The name of the consumer whose committed offset is used when no offset is given, or null
+     * @param limit    The maximum number of events
+     * @param wait     How long to wait for new events when there are none yet
+     * @return List of events in publication order
+     * @throws IllegalStateException if the offset is malformed
+     */
+    @Override
+    public List<OrderEventDto> getEvents(String after, String consumer, int limit, Duration wait) {
+        String offset = after;
+        if (offset == null && consumer != null) {
+            offset = orderEventStream.getOffset(consumer);
+        }
+        int count = Math.min(Math.max(limit, 1), orderEventProperties.getMaxReadCount());
+        Duration timeout = wait.compareTo(orderEventProperties.getMaxWait()) > 0
+                ? orderEventProperties.getMaxWait()
+                : wait;
+        return orderEventStream.read(parseOffset(offset == null ? FIRST_OFFSET : offset), count, timeout);
+    }
+
+    /**
+     * Retrieves the offset committed by a consumer.
+     *
+     * @param consumer The name of the consumer
+     * @return The committed offset, or the start of the stream if none was committed
+     */
+    @Override
+    public String getOffset(String consumer) {
+        String offset = orderEventStream.getOffset(consumer);
+        return offset == null ? FIRST_OFFSET : offset;
+    }
+
+    /**
+     * Retrieves the offset of the newest event in the stream, so a reader can start at the live end.
+     *
+     * @return The offset of the newest event, or the start of the stream if it is empty
+     */
+    @Override
+    public String getLatestOffset() {
+        String offset = orderEventStream.getLastOffset();
+        return offset == null ? FIRST_OFFSET : offset;
+    }
+
+    /**
+     * Commits the offset of the last event a consumer has processed.
+     *
+     * @param consumer The name of the consumer
+     * @param offset   The offset of the last processed event
+     * @throws IllegalStateException if the offset is malformed
+     */
+    @Override
+    public void commitOffset(String consumer, String offset) {
+        parseOffset(offset);
+        orderEventStream.setOffset(consumer, offset);
+    }
+
+    /**
+     * Parses a stream offset of the form {@code <milliseconds>-<sequence>}.
+     *
+     * @param offset The offset
+     * @return The stream message ID
+     * @throws IllegalStateException if the offset is malformed
+     */
+    private StreamMessageId parseOffset(String offset) {
+        int separator = offset.indexOf('-');
+        try {
+            if (separator < 0) {
+                return new StreamMessageId(Long.parseUnsignedLong(offset), 0);
+            }
+            return new StreamMessageId(
+                    Long.parseUnsignedLong(offset.substring(0, separator)),
+                    Long.parseUnsignedLong(offset.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid event offset");
+        }
+    }
+}
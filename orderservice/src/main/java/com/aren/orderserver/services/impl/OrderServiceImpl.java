@@ -1,36 +1,55 @@
 package com.aren.orderserver.services.impl;
 
+import com.aren.orderserver.configs.properties.OrderProcessingProperties;
 import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.entities.OrderEvent;
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.OrderEventType;
 import com.aren.orderserver.enums.OrderStatus;
 import com.aren.orderserver.enums.UserRole;
 import com.aren.orderserver.exceptions.AccessDeniedException;
+import com.aren.orderserver.exceptions.ErrorCode;
 import com.aren.orderserver.exceptions.OrderProgressException;
 import com.aren.orderserver.exceptions.ResourceNotFoundException;
+import com.aren.orderserver.repositories.OrderEventRepository;
 import com.aren.orderserver.repositories.OrderRepository;
 import com.aren.orderserver.services.OrderService;
 import com.aren.orderserver.services.UserService;
+import com.aren.orderserver.web.redis.OrderChangeTracker;
 import com.aren.orderserver.web.redis.OrderProcessingLock;
 import com.aren.orderserver.web.dto.StatisticsDto;
 import com.aren.orderserver.web.security.JwtEntity;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "orders.service", histogram = true)
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final UserService userService;
     private final OrderProcessingLock orderProcessingLock;
+    private final ObservationRegistry observationRegistry;
+    private final OrderEventRepository orderEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderProcessingProperties orderProcessingProperties;
+    private final OrderChangeTracker orderChangeTracker;
 
     /**
      * Places and saves a new order.
@@ -43,8 +62,10 @@ public class OrderServiceImpl implements OrderService {
     public Order placeAndOrder(Order order) {
         order.setCreatedBy(getUser());
         order.setCreatedDate(OffsetDateTime.now());
-        order.setStatus(OrderStatus.READY.name());
-        return orderRepository.save(order);
+        order.setStatus(OrderStatus.READY);
+        Order placed = orderRepository.save(order);
+        recordEvent(order, OrderEventType.PLACED, order.getCreatedBy());
+        return placed;
     }
 
     /**
@@ -59,11 +80,11 @@ public class OrderServiceImpl implements OrderService {
     @Cacheable(value = "OrderService::getById", key = "#orderId")
     public Order getById(Integer orderId) {
         return orderRepository.findById(orderId)
-                .orElseThrow(() -> new ResourceNotFoundException("Order not found"));
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.ORDER_NOT_FOUND));
     }
 
     /**
-     * Retrieves a list of orders based on user roles.
+     * Retrieves a list of orders based on user roles. Archived orders are left out and remain available by ID.
      *
      * @return List of orders based on user roles
      * @throws AccessDeniedException if access is denied
@@ -71,14 +92,12 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public List<Order> getOrders() {
-        if (getUser().getRole().equals(UserRole.POSTER.name())) {
-            return orderRepository.findAll().stream()
-                    .filter(order -> order.getCreatedBy().getId().equals(getUser().getId()))
-                    .toList();
-        } else if (getUser().getRole().equals(UserRole.PROCESSOR.name())) {
-            return orderRepository.findAll();
+        if (getUser().getRole() == UserRole.POSTER) {
+            return orderRepository.findAllByArchivedFalseAndCreatedById(getUser().getId());
+        } else if (getUser().getRole() == UserRole.PROCESSOR) {
+            return orderRepository.findAllByArchivedFalse();
         } else {
-            throw new AccessDeniedException("Access denied.");
+            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
         }
     }
 
@@ -90,7 +109,7 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public List<Order> getReadyToProcess() {
-        return orderRepository.getOrderByStatus(OrderStatus.READY.name());
+        return orderRepository.getOrderByStatus(OrderStatus.READY);
     }
 
     /**
@@ -101,45 +120,55 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public List<Order> getInProcessOrders() {
-        return orderRepository.getOrderByStatus(OrderStatus.IN_PROCESS.name());
+        return orderRepository.getOrderByStatus(OrderStatus.IN_PROCESS);
     }
 
     /**
      * Starts processing an order.
+     * Concurrent claims are resolved by the order version; the losing claim is retried and then rejected
+     * because the order is no longer ready. The Redis lock is only taken when the distributed lock is enabled.
      *
      * @param orderId The ID of the order to start processing
      * @return The order after starting processing
-     * @throws OrderProgressException if order is already processed or being processed
+     * @throws OrderProgressException            if order is already processed or being processed
+     * @throws OptimisticLockingFailureException if the order kept changing concurrently on every attempt
      */
     @Override
-    @Transactional
     @CachePut(value = "OrderService::getById", key = "#orderId")
     public Order startProcessing(Integer orderId) {
-        if (orderProcessingLock.isLocked(orderId)) {
-            throw new OrderProgressException("Order already is processing by another user");
-        }
-        try {
-            orderProcessingLock.acquireLock(orderId);
-            Order order = orderRepository.findById(orderId).orElseThrow(() -> new ResourceNotFoundException("Order not found"));
-
-            if (order.getStatus().equals(OrderStatus.PROCESSED.name())) {
-                orderProcessingLock.releaseLock(orderId);
-                throw new OrderProgressException("Order already processed");
+        return transition("start-processing").observe(() -> {
+            if (!orderProcessingProperties.isDistributedLock()) {
+                return retryOnConflict(() -> claim(orderId));
             }
-
-            if(order.getStatus().equals(OrderStatus.IN_PROCESS.name())) {
-                orderProcessingLock.releaseLock(orderId);
-                throw new OrderProgressException("Order already is processing by another user");
+            if (step("lock-check").observe(() -> orderProcessingLock.isLocked(orderId))) {
+                throw new OrderProgressException(ErrorCode.ORDER_ALREADY_IN_PROCESS);
             }
+            if (!step("lock-acquire").observe(() -> orderProcessingLock.acquireLock(orderId))) {
+                throw new OrderProgressException(ErrorCode.ORDER_ALREADY_IN_PROCESS);
+            }
+            try {
+                return retryOnConflict(() -> claim(orderId));
+            } finally {
+                step("lock-release").observe(() -> orderProcessingLock.releaseLock(orderId));
+            }
+        });
+    }
 
-            order.setStatus(OrderStatus.IN_PROCESS.name());
-            order.setProcessedBy(getUser());
-            order.setUpdatedDate(OffsetDateTime.now());
+    /**
+     * Moves an order to IN_PROCESS for the current user.
+     *
+     * @param orderId The ID of the order to claim
+     * @return The claimed order
+     * @throws OrderProgressException if order is already processed or being processed
+     */
+    private Order claim(Integer orderId) {
+        Order order = findOrder(orderId);
 
-            return orderRepository.save(order);
-        } finally {
-            orderProcessingLock.releaseLock(orderId);
-        }
+        order.setStatus(order.getStatus().transitionTo(OrderStatus.IN_PROCESS));
+        order.setProcessedBy(getCurrentUser());
+        order.setUpdatedDate(OffsetDateTime.now());
+
+        return saveOrder(order, OrderEventType.PROCESSING_STARTED);
     }
 
     /**
@@ -147,35 +176,31 @@ public class OrderServiceImpl implements OrderService {
      *
      * @param orderId The ID of the order to complete processing
      * @return The order after completing processing
-     * @throws OrderProgressException if order is already processed, not started, or being processed
+     * @throws OrderProgressException            if order is already processed, not started, or being processed
+     * @throws OptimisticLockingFailureException if the order kept changing concurrently on every attempt
      */
     @Override
-    @Transactional
     @CachePut(value = "OrderService::getById", key = "#orderId")
     public Order completeProcessing(Integer orderId) {
+        return transition("complete-processing").observe(() -> retryOnConflict(() -> {
+            Order order = findOrder(orderId);
+            User user = getCurrentUser();
 
-        Order order = orderRepository.findById(orderId).orElseThrow(() -> new ResourceNotFoundException("Order not found"));
-
-        if (!order.getProcessedBy().equals(getUser())) {
-            throw new OrderProgressException("You cannot complete processing for this order");
-        }
-
-        if (order.getStatus().equals(OrderStatus.PROCESSED.name())) {
-            throw new OrderProgressException("Order already processed");
-        }
-
-        if (order.getStatus().equals(OrderStatus.READY.name())) {
-            throw new OrderProgressException("Processing was not started.");
-        }
+            if (order.getProcessedBy() == null || !Objects.equals(order.getProcessedBy().getId(), user.getId())) {
+                throw new OrderProgressException(ErrorCode.NOT_ORDER_PROCESSOR);
+            }
 
-        order.setProcessedBy(getUser());
-        order.setUpdatedDate(OffsetDateTime.now());
-        order.setStatus(OrderStatus.PROCESSED.name());
-        return orderRepository.save(order);
+            order.setStatus(order.getStatus().transitionTo(OrderStatus.PROCESSED));
+            order.setProcessedBy(user);
+            order.setUpdatedDate(OffsetDateTime.now());
+            return saveOrder(order, OrderEventType.PROCESSING_COMPLETED);
+        }));
     }
 
     /**
      * Retrieves statistics related to orders by user.
+     * Ready and in-process orders are counted in the hot partition only, archived orders through their counter;
+     * processed orders are what remains of the total.
      *
      * @return StatisticsDto containing total, ready, processed, and in-process orders
      */
@@ -187,10 +212,10 @@ public class OrderServiceImpl implements OrderService {
         long processed;
         long inProcess;
 
-        total = orderRepository.count();
-        ready = orderRepository.getOrderByStatus(OrderStatus.READY.name()).size();
-        processed = orderRepository.getOrderByStatus(OrderStatus.PROCESSED.name()).size();
-        inProcess = orderRepository.getOrderByStatus(OrderStatus.IN_PROCESS.name()).size();
+        total = orderRepository.countIncludingArchived();
+        ready = orderRepository.countByStatus(OrderStatus.READY);
+        inProcess = orderRepository.countByStatus(OrderStatus.IN_PROCESS);
+        processed = total - ready - inProcess;
 
         return StatisticsDto.builder()
                 .total(total)
@@ -218,8 +243,136 @@ public class OrderServiceImpl implements OrderService {
      *
      * @param order The Order object containing the updated details
      */
+    @Transactional
     public void updateOrder(Order order) {
         orderRepository.save(order);
+        recordEvent(order, OrderEventType.UPDATED, order.getProcessedBy());
+    }
+
+    /**
+     * Returns an order whose processing was abandoned to READY status.
+     *
+     * @param order The order to return
+     * @return The order after returning it
+     * @throws OrderProgressException            if the order is not in process
+     * @throws OptimisticLockingFailureException if the order changed since it was read
+     */
+    @Override
+    @Transactional
+    @CachePut(value = "OrderService::getById", key = "#order.id")
+    public Order returnToReady(Order order) {
+        order.setStatus(order.getStatus().transitionTo(OrderStatus.READY));
+        order.setProcessedBy(null);
+        order.setUpdatedDate(null);
+        Order returned = orderRepository.save(order);
+        recordEvent(order, OrderEventType.RETURNED_TO_READY, null);
+        return returned;
+    }
+
+    /**
+     * Loads an order within its own tracing step.
+     *
+     * @param orderId The ID of the order to load
+     * @return The order with the specified ID
+     * @throws ResourceNotFoundException if the order is not found
+     */
+    private Order findOrder(Integer orderId) {
+        return step("find-order").observe(() -> orderRepository.findById(orderId))
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.ORDER_NOT_FOUND));
+    }
+
+    /**
+     * Runs a state change in its own transaction, retrying it with a linear backoff
+     * when the order was modified concurrently.
+     *
+     * @param change The state change, which must re-read the order on every attempt
+     * @return The result of the successful attempt
+     * @throws OptimisticLockingFailureException if every attempt conflicted
+     */
+    private Order retryOnConflict(Supplier<Order> change) {
+        int maxAttempts = Math.max(orderProcessingProperties.getMaxAttempts(), 1);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> change.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(orderProcessingProperties.getRetryBackoff().multipliedBy(attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves an order and its outbox event within its own tracing step.
+     *
+     * @param order The order to save
+     * @param type  The type of the state change
+     * @return The saved order
+     */
+    private Order saveOrder(Order order, OrderEventType type) {
+        return step("save-order").observe(() -> {
+            Order saved = orderRepository.save(order);
+            recordEvent(order, type, order.getProcessedBy());
+            return saved;
+        });
+    }
+
+    /**
+     * Writes an outbox event for a state change, in the transaction that made the change,
+     * and bumps the version of the order lists that include the order once it commits.
+     *
+     * @param order The order that changed
+     * @param type  The type of the state change
+     * @param user  The user who made the change, or null for system changes
+     */
+    private void recordEvent(Order order, OrderEventType type, User user) {
+        orderEventRepository.save(new OrderEvent(
+                order.getId(),
+                type.name(),
+                order.getStatus(),
+                user == null ? null : user.getId(),
+                OffsetDateTime.now()
+        ));
+        orderChangeTracker.markChanged(order.getCreatedBy() == null ? null : order.getCreatedBy().getId());
+    }
+
+    /**
+     * Retrieves the current authenticated user within its own tracing step.
+     *
+     * @return The current authenticated user
+     */
+    private User getCurrentUser() {
+        return step("current-user").observe(this::getUser);
+    }
+
+    /**
+     * Creates the observation wrapping a whole order state transition.
+     *
+     * @param transition The name of the transition
+     * @return The observation, not yet started
+     */
+    private Observation transition(String transition) {
+        return Observation.createNotStarted("orders.processing", observationRegistry)
+                .contextualName(transition)
+                .lowCardinalityKeyValue("transition", transition);
+    }
+
+    /**
+     * Creates the observation wrapping one step of an order state transition.
+     *
+     * @param step The name of the step
+     * @return The observation, not yet started
+     */
+    private Observation step(String step) {
+        return Observation.createNotStarted("orders.processing.step", observationRegistry)
+                .contextualName(step)
+                .lowCardinalityKeyValue("step", step);
     }
 
     /**
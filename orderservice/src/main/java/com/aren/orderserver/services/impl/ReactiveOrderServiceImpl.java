@@ -0,0 +1,110 @@
+package com.aren.orderserver.services.impl;
+
+import com.aren.orderserver.configs.properties.ReactiveReadProperties;
+import com.aren.orderserver.entities.OrderView;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.exceptions.AccessDeniedException;
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.repositories.OrderViewRepository;
+import com.aren.orderserver.services.ReactiveOrderService;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.security.JwtEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+    private static final String STATISTICS_KEY = "ReactiveOrderService::getStatistics";
+
+    private final OrderViewRepository orderViewRepository;
+    private final ReactiveRedisTemplate<String, StatisticsDto> statisticsRedisTemplate;
+    private final ReactiveReadProperties reactiveReadProperties;
+
+    /**
+     * Streams orders based on the role of the current user.
+     * The user is resolved from the token on the calling thread, so no user lookup hits the database.
+     *
+     * @return Flux of orders created by the user for posters, or all orders for processors
+     */
+    @Override
+    public Flux<OrderView> getOrders() {
+        JwtEntity user = getUser();
+        if (hasRole(user, UserRole.POSTER)) {
+            return orderViewRepository.findAllViewsByCreator(user.getId())
+                    .limitRate(reactiveReadProperties.getPrefetch());
+        } else if (hasRole(user, UserRole.PROCESSOR)) {
+            return orderViewRepository.findAllViews()
+                    .limitRate(reactiveReadProperties.getPrefetch());
+        } else {
+            return Flux.error(new AccessDeniedException(ErrorCode.ACCESS_DENIED));
+        }
+    }
+
+    /**
+     * Streams orders ready to be processed.
+     *
+     * @return Flux of orders with READY status
+     */
+    @Override
+    public Flux<OrderView> getReadyToProcess() {
+        return orderViewRepository.findAllViewsByStatus(OrderStatus.READY.getCode())
+                .limitRate(reactiveReadProperties.getPrefetch());
+    }
+
+    /**
+     * Retrieves order statistics, served from Redis while the cached value is fresh.
+     * Cache failures fall back to the database instead of failing the request.
+     *
+     * @return Mono of StatisticsDto containing total, ready, processed, and in-process orders
+     */
+    @Override
+    public Mono<StatisticsDto> getStatistics() {
+        return statisticsRedisTemplate.opsForValue().get(STATISTICS_KEY)
+                .onErrorResume(e -> Mono.empty())
+                .switchIfEmpty(Mono.defer(() -> orderViewRepository.getStatistics()
+                        .flatMap(this::cacheStatistics)));
+    }
+
+    /**
+     * Stores statistics in Redis for the configured time to live.
+     *
+     * @param statistics The statistics to cache
+     * @return Mono emitting the given statistics once the cache write completes or fails
+     */
+    private Mono<StatisticsDto> cacheStatistics(StatisticsDto statistics) {
+        return statisticsRedisTemplate.opsForValue()
+                .set(STATISTICS_KEY, statistics, reactiveReadProperties.getStatisticsTtl())
+                .onErrorResume(e -> Mono.just(false))
+                .thenReturn(statistics);
+    }
+
+    /**
+     * Checks if the user has the specified role.
+     *
+     * @param user The authenticated user
+     * @param role The role to check for
+     * @return true if the user has the specified role, false otherwise
+     */
+    private boolean hasRole(JwtEntity user, UserRole role) {
+        return user.getAuthorities().contains(new SimpleGrantedAuthority(role.name()));
+    }
+
+    /**
+     * Retrieves the current authenticated user.
+     *
+     * @return The current authenticated user
+     */
+    private JwtEntity getUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (JwtEntity) authentication.getPrincipal();
+    }
+}
@@ -1,14 +1,19 @@
 package com.aren.orderserver.services.impl;
 
+import com.aren.orderserver.configs.properties.UserImportProperties;
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.exceptions.ErrorCode;
 import com.aren.orderserver.exceptions.ResourceNotFoundException;
+import com.aren.orderserver.exceptions.UserAlreadyExistsException;
 import com.aren.orderserver.repositories.UserRepository;
 import com.aren.orderserver.services.UserService;
+import com.aren.orderserver.web.security.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -16,21 +21,58 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserImportProperties userImportProperties;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Adds a new user to the system.
+     * Adds a new user to the system, storing the password as a BCrypt hash.
+     * The insert itself detects a taken username or email, so no lookup precedes it.
      *
      * @param user The user to be added
      * @return The added user
-     * @throws DataIntegrityViolationException if a user with the same ID already exists
+     * @throws UserAlreadyExistsException if the username or email is already taken
      */
     @Override
     @Transactional
     public User addUser(User user) {
-        if (user.getId() != null && userRepository.existsById(user.getId())) {
-            throw new DataIntegrityViolationException("User with id " + user.getId() + " already exists");
+        user.setId(null);
+        if (user.getPassword() != null) {
+            user.setPassword(passwordEncoder.encode(user.getPassword()));
         }
-        return userRepository.save(user);
+        List<User> inserted = userRepository.insertIgnoringConflicts(List.of(user));
+        if (inserted.isEmpty()) {
+            throw new UserAlreadyExistsException(ErrorCode.USER_ALREADY_EXISTS);
+        }
+        return inserted.get(0);
+    }
+
+    /**
+     * Adds many users at once. Passwords are hashed in parallel and the users are inserted in batches;
+     * users whose username or email is already taken are skipped.
+     * The batches are inserted in one transaction, so a failed import adds no users at all. Hashing happens
+     * before it starts, so no database connection is held while the passwords are hashed.
+     *
+     * @param users The users to be added
+     * @return The users that were added, with their IDs
+     * @throws IllegalStateException if more users are given than a single import allows
+     */
+    @Override
+    public List<User> importUsers(List<User> users) {
+        if (users.size() > userImportProperties.getMaxUsers()) {
+            throw new IllegalStateException("At most " + userImportProperties.getMaxUsers() + " users can be imported at once");
+        }
+        hashPasswords(users);
+
+        return transactionTemplate.execute(status -> {
+            List<User> inserted = new ArrayList<>(users.size());
+            int batchSize = userImportProperties.getBatchSize();
+            for (int from = 0; from < users.size(); from += batchSize) {
+                inserted.addAll(userRepository.insertIgnoringConflicts(
+                        users.subList(from, Math.min(from + batchSize, users.size()))));
+            }
+            return inserted;
+        });
     }
 
     /**
@@ -44,7 +86,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public User getUser(Integer id) {
         return userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
     }
 
     /**
@@ -57,11 +99,46 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public User getUserByUsername(String username) {
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .filter(it -> it.getUsername().equals(username))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("User not found")) ;
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * Replaces the stored password hash of a user.
+     *
+     * @param username        The username of the user
+     * @param encodedPassword The new password hash
+     * @return The updated user
+     * @throws ResourceNotFoundException if the user is not found
+     */
+    @Override
+    @Transactional
+    public User updatePassword(String username, String encodedPassword) {
+        User user = getUserByUsername(username);
+        user.setPassword(encodedPassword);
+        return userRepository.save(user);
+    }
+
+    /**
+     * Hashes the passwords of the users on the shared hashing pool, keeping at most the configured number
+     * of hashes in flight so an import does not take the whole pool away from logins.
+     *
+     * @param users The users whose passwords are hashed in place
+     */
+    private void hashPasswords(List<User> users) {
+        List<User> withPassword = new ArrayList<>(users.size());
+        for (User user : users) {
+            user.setId(null);
+            if (user.getPassword() != null) {
+                withPassword.add(user);
+            }
+        }
+        List<String> hashes = passwordEncoder.encodeAll(
+                withPassword.stream().map(User::getPassword).toList(),
+                userImportProperties.getHashingParallelism());
+        for (int i = 0; i < withPassword.size(); i++) {
+            withPassword.get(i).setPassword(hashes.get(i));
+        }
     }
 
 }
@@ -58,4 +58,14 @@ public class AuthController {
         return authService.refresh(refreshToken);
     }
 
+    /**
+     * Endpoint to log out by revoking the provided refresh token.
+     *
+     * @param refreshToken The refresh token string
+     */
+    @PostMapping("/logout")
+    public void logout(@RequestBody String refreshToken) {
+        authService.logout(refreshToken);
+    }
+
 }
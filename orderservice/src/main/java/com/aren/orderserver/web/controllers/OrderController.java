@@ -6,11 +6,20 @@ import com.aren.orderserver.web.validation.OnCreate;
 import com.aren.orderserver.web.dto.OrderDto;
 import com.aren.orderserver.web.dto.StatisticsDto;
 import com.aren.orderserver.web.mappers.OrderMapper;
+import com.aren.orderserver.web.redis.IdempotencyStore;
+import com.aren.orderserver.web.redis.OrderChangeTracker;
+import com.aren.orderserver.web.sse.OrderNotificationHub;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @RestController
@@ -19,102 +28,173 @@ import java.util.List;
 @Validated
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     private final OrderService orderService;
     private final OrderMapper orderMapper;
+    private final OrderNotificationHub orderNotificationHub;
+    private final IdempotencyStore idempotencyStore;
+    private final OrderChangeTracker orderChangeTracker;
 
     /**
      * Endpoint to place a new order.
+     * A retry with the same Idempotency-Key returns the order placed by the first request instead of placing another one.
      * Requires the user to have the role of a poster.
      *
-     * @param orderDto The OrderDto object containing order details
+     * @param idempotencyKey The key identifying retries of the same request
+     * @param orderDto       The OrderDto object containing order details
      * @return The created OrderDto after placing the order
      */
     @PostMapping(value = "/")
     @PreAuthorize("@customSecurityExpression.canPostOrder()")
-    public OrderDto placeAndOrder(@Validated(OnCreate.class) @RequestBody OrderDto orderDto){
-        Order order = orderMapper.toEntity(orderDto);
-        Order placedOrder = orderService.placeAndOrder(order);
-        return orderMapper.toDto(placedOrder);
+    public OrderDto placeAndOrder(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                  @Validated(OnCreate.class) @RequestBody OrderDto orderDto){
+        String request = orderDto.getTitle() + '\u0000' + orderDto.getDescription();
+        return idempotencyStore.execute(idempotencyKey, "placeOrder", request, OrderDto.class, () -> {
+            Order order = orderMapper.toEntity(orderDto);
+            Order placedOrder = orderService.placeAndOrder(order);
+            return orderMapper.toDto(placedOrder);
+        });
     }
 
     /**
-     * Endpoint to retrieve all orders.
+     * Endpoint to retrieve all orders, as JSON, CBOR or Smile depending on the Accept header.
      * User with the role of a poster will receive only own created orders.
      * User with the role of a processors will receive all orders
+     * The ETag is the version of the list, so a client sending it back in If-None-Match gets 304
+     * without the orders being loaded while nothing in the list changed. It is weak because the body varies by
+     * Accept and Content-Encoding, and because Tomcat only compresses responses without a strong ETag.
      *
-     * @return List of OrderDto objects representing all orders
+     * @param webRequest The request, checked for If-None-Match
+     * @param response   The response, marked as varying by Accept
+     * @return List of OrderDto objects representing all orders, or null if the client copy is current
      */
-    @GetMapping(value = "/all")
-    public List<OrderDto> getAllOrders(){
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public List<OrderDto> getAllOrders(WebRequest webRequest, HttpServletResponse response){
+        varyByAccept(response);
+        String version = orderChangeTracker.getOrdersVersion();
+        if (version != null && webRequest.checkNotModified("W/\"" + version + "\"")) {
+            return null;
+        }
         List<Order> orders = orderService.getOrders();
         return orderMapper.toDto(orders);
     }
 
     /**
      * Endpoint to retrieve an order by its ID.
+     * The weak ETag is derived from the ID and version of the order and Last-Modified from its last update,
+     * so a client revalidating an unchanged order gets 304 without the body being mapped or serialized.
      * Requires the user to have the role of a processor or be the owner of the order.
      *
-     * @param orderId The ID of the order to retrieve
-     * @return The OrderDto object representing the requested order
+     * @param orderId    The ID of the order to retrieve
+     * @param webRequest The request, checked for If-None-Match and If-Modified-Since
+     * @param response   The response, marked as varying by Accept
+     * @return The OrderDto object representing the requested order, or null if the client copy is current
      */
-    @GetMapping(value = "/{orderId}")
+    @GetMapping(value = "/{orderId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @PreAuthorize("@customSecurityExpression.canGetOrder(#orderId)")
-    public OrderDto getOrder(@PathVariable Integer orderId){
+    public OrderDto getOrder(@PathVariable Integer orderId, WebRequest webRequest, HttpServletResponse response){
+        varyByAccept(response);
         Order order = orderService.getById(orderId);
+        OffsetDateTime updated = order.getUpdatedDate();
+        if (webRequest.checkNotModified("W/\"" + order.getId() + "-" + order.getVersion() + "\"",
+                updated == null ? -1 : updated.toInstant().toEpochMilli())) {
+            return null;
+        }
         return orderMapper.toDto(order);
     }
 
     /**
-     * Endpoint to retrieve all orders that are ready for processing.
+     * Endpoint to retrieve all orders that are ready for processing, as JSON, CBOR or Smile depending on the Accept header.
      * Requires the user to have the role of a processor.
      *
+     * @param response The response, marked as varying by Accept
      * @return List of OrderDto objects representing orders ready for processing
      */
-    @GetMapping(value = "/ready")
+    @GetMapping(value = "/ready", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @PreAuthorize("@customSecurityExpression.canProcessOrder()")
-    public List<OrderDto> getReadyForProcessOrders(){
+    public List<OrderDto> getReadyForProcessOrders(HttpServletResponse response){
+        varyByAccept(response);
         List<Order> orders = orderService.getReadyToProcess();
         return orderMapper.toDto(orders);
     }
 
+    /**
+     * Endpoint to subscribe to ready-order notifications as Server-Sent Events.
+     * A "ready" event announces an order that became available, a "claimed" event an order taken by a processor.
+     * A "resync" event tells a client that fell behind to reload the ready orders.
+     * Requires the user to have the role of a processor.
+     *
+     * @param lastEventId The ID of the last event received before reconnecting, to replay the missed events
+     * @return SseEmitter streaming the notifications
+     */
+    @GetMapping(value = "/ready/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@customSecurityExpression.canProcessOrder()")
+    public SseEmitter streamReadyOrders(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return orderNotificationHub.subscribe(lastEventId);
+    }
+
     /**
      * Endpoint to start processing an order by its ID.
+     * A retry with the same Idempotency-Key returns the result of the first request instead of failing on the changed status.
      * Requires the user to have the role of a processor.
      *
-     * @param orderId The ID of the order to start processing
+     * @param idempotencyKey The key identifying retries of the same request
+     * @param orderId        The ID of the order to start processing
      * @return The updated OrderDto after starting processing
      */
     @PutMapping(value = "/{orderId}/start")
     @PreAuthorize("@customSecurityExpression.canProcessOrder()")
-    public OrderDto startProcessing(@PathVariable Integer orderId){
-        Order updated = orderService.startProcessing(orderId);
-        return orderMapper.toDto(updated);
+    public OrderDto startProcessing(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                    @PathVariable Integer orderId){
+        return idempotencyStore.execute(idempotencyKey, "startProcessing", String.valueOf(orderId), OrderDto.class, () -> {
+            Order updated = orderService.startProcessing(orderId);
+            return orderMapper.toDto(updated);
+        });
     }
 
     /**
      * Endpoint to complete processing of an order by its ID.
+     * A retry with the same Idempotency-Key returns the result of the first request instead of failing on the changed status.
      * Requires the user to have the role of a processor.
      *
-     * @param orderId The ID of the order to complete processing
+     * @param idempotencyKey The key identifying retries of the same request
+     * @param orderId        The ID of the order to complete processing
      * @return The updated OrderDto after completing processing
      */
     @PutMapping(value = "/{orderId}/complete")
     @PreAuthorize("@customSecurityExpression.canProcessOrder()")
-    public OrderDto completeProcessing(@PathVariable Integer orderId){
-        Order updated = orderService.completeProcessing(orderId);
-        return orderMapper.toDto(updated);
+    public OrderDto completeProcessing(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                       @PathVariable Integer orderId){
+        return idempotencyStore.execute(idempotencyKey, "completeProcessing", String.valueOf(orderId), OrderDto.class, () -> {
+            Order updated = orderService.completeProcessing(orderId);
+            return orderMapper.toDto(updated);
+        });
     }
 
     /**
      * Endpoint to retrieve statistics related to orders by the current user.
      * Requires the user to have the role of a processor.
      *
+     * @param response The response, marked as varying by Accept
      * @return StatisticsDto containing total, ready, processed, and in-process orders
      */
-    @GetMapping(value = "/stat")
+    @GetMapping(value = "/stat", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @PreAuthorize("@customSecurityExpression.canProcessOrder()")
-    public StatisticsDto getStatistics(){
+    public StatisticsDto getStatistics(HttpServletResponse response){
+        varyByAccept(response);
         return orderService.getStatisticsByUser();
     }
 
+    /**
+     * Marks a response whose format is negotiated from the Accept header, so caches keep the JSON, CBOR and Smile
+     * representations and their ETags apart. Set before the conditional checks so 304 responses carry it as well.
+     *
+     * @param response The response to mark
+     */
+    private static void varyByAccept(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
 }
@@ -0,0 +1,72 @@
+package com.aren.orderserver.web.controllers;
+
+import com.aren.orderserver.services.OrderEventService;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import com.aren.orderserver.web.dto.OrderEventOffsetDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "api/v1/orders/events")
+@RequiredArgsConstructor
+@Validated
+public class OrderEventController {
+
+    private final OrderEventService orderEventService;
+
+    /**
+     * Endpoint to read order events published after an offset.
+     * Without an offset, reading resumes from the offset last committed by the consumer.
+     * When no events are available yet the request waits up to the given number of seconds for new ones.
+     * Requires the user to have the role of a processor.
+     *
+     * @param after    The offset of the last event already seen
+     * @param consumer The name of the consumer
+     * @param limit    The maximum number of events to return
+     * @param wait     The number of seconds to wait for new events
+     * @return List of OrderEventDto objects in publication order
+     */
+    @GetMapping
+    @PreAuthorize("@customSecurityExpression.canProcessOrder()")
+    public List<OrderEventDto> getEvents(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) String consumer,
+                                         @RequestParam(defaultValue = "100") int limit,
+                                         @RequestParam(defaultValue = "0") long wait) {
+        return orderEventService.getEvents(after, consumer, limit, Duration.ofSeconds(Math.max(wait, 0)));
+    }
+
+    /**
+     * Endpoint to retrieve the offset last committed by a consumer.
+     * Requires the user to have the role of a processor.
+     *
+     * @param consumer The name of the consumer
+     * @return OrderEventOffsetDto holding the committed offset
+     */
+    @GetMapping(value = "/offsets/{consumer}")
+    @PreAuthorize("@customSecurityExpression.canProcessOrder()")
+    public OrderEventOffsetDto getOffset(@PathVariable String consumer) {
+        return new OrderEventOffsetDto(consumer, orderEventService.getOffset(consumer));
+    }
+
+    /**
+     * Endpoint to commit the offset of the last event a consumer has processed.
+     * Requires the user to have the role of a processor.
+     *
+     * @param consumer  The name of the consumer
+     * @param offsetDto The OrderEventOffsetDto holding the offset to commit
+     * @return OrderEventOffsetDto holding the committed offset
+     */
+    @PutMapping(value = "/offsets/{consumer}")
+    @PreAuthorize("@customSecurityExpression.canProcessOrder()")
+    public OrderEventOffsetDto commitOffset(@PathVariable String consumer,
+                                            @Validated @RequestBody OrderEventOffsetDto offsetDto) {
+        orderEventService.commitOffset(consumer, offsetDto.getOffset());
+        return new OrderEventOffsetDto(consumer, offsetDto.getOffset());
+    }
+
+}
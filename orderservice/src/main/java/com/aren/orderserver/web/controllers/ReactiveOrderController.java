@@ -0,0 +1,62 @@
+package com.aren.orderserver.web.controllers;
+
+import com.aren.orderserver.services.ReactiveOrderService;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.mappers.OrderViewMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(value = "api/v1/orders/reactive")
+@RequiredArgsConstructor
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService reactiveOrderService;
+    private final OrderViewMapper orderViewMapper;
+
+    /**
+     * Endpoint to stream all orders as newline delimited JSON.
+     * User with the role of a poster will receive only own created orders.
+     * User with the role of a processors will receive all orders
+     *
+     * @return Flux of OrderDto objects representing all orders
+     */
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderDto> getAllOrders() {
+        return reactiveOrderService.getOrders()
+                .map(orderViewMapper::toDto);
+    }
+
+    /**
+     * Endpoint to stream all orders that are ready for processing as newline delimited JSON.
+     * Requires the user to have the role of a processor.
+     *
+     * @return Flux of OrderDto objects representing orders ready for processing
+     */
+    @GetMapping(value = "/ready", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("@customSecurityExpression.canProcessOrder()")
+    public Flux<OrderDto> getReadyForProcessOrders() {
+        return reactiveOrderService.getReadyToProcess()
+                .map(orderViewMapper::toDto);
+    }
+
+    /**
+     * Endpoint to retrieve statistics related to orders.
+     * Requires the user to have the role of a processor.
+     *
+     * @return StatisticsDto containing total, ready, processed, and in-process orders
+     */
+    @GetMapping(value = "/stat")
+    @PreAuthorize("@customSecurityExpression.canProcessOrder()")
+    public Mono<StatisticsDto> getStatistics() {
+        return reactiveOrderService.getStatistics();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.aren.orderserver.web.controllers;
+
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.services.UserService;
+import com.aren.orderserver.web.dto.UserDto;
+import com.aren.orderserver.web.dto.UserImportDto;
+import com.aren.orderserver.web.dto.UserImportResultDto;
+import com.aren.orderserver.web.mappers.UserMapper;
+import com.aren.orderserver.web.validation.OnCreate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+@Validated
+public class UserController {
+
+    private final UserService userService;
+
+    private final UserMapper userMapper;
+
+    /**
+     * Endpoint to create many users at once, for example when onboarding processors.
+     * Users whose username or email is already taken are skipped rather than failing the import.
+     * Requires the user to have the role of an admin.
+     *
+     * @param importDto The UserImportDto holding the users to create
+     * @return UserImportResultDto listing the created users and the usernames that were skipped
+     */
+    @PostMapping("/import")
+    @PreAuthorize("@customSecurityExpression.canManageUsers()")
+    public UserImportResultDto importUsers(@Validated(OnCreate.class) @RequestBody final UserImportDto importDto) {
+        List<User> users = importDto.getUsers().stream()
+                .map(userMapper::toEntity)
+                .toList();
+        List<User> created = userService.importUsers(users);
+
+        Set<String> createdUsernames = new HashSet<>();
+        created.forEach(user -> createdUsernames.add(user.getUsername()));
+        List<String> skipped = importDto.getUsers().stream()
+                .map(UserDto::getUsername)
+                .filter(username -> !createdUsernames.remove(username))
+                .toList();
+
+        return UserImportResultDto.builder()
+                .requested(users.size())
+                .created(userMapper.toDto(created))
+                .skipped(skipped)
+                .build();
+    }
+
+}
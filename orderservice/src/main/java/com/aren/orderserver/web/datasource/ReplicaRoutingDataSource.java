@@ -0,0 +1,189 @@
+package com.aren.orderserver.web.datasource;
+
+import com.aren.orderserver.web.redis.RecentWriteStore;
+import com.aren.orderserver.web.security.JwtEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private static final String LAG_QUERY = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final List<HikariDataSource> replicas;
+    private final RecentWriteStore recentWriteStore;
+    private final long maxLagNanos;
+    private final Duration stickiness;
+    private final long stickinessNanos;
+    private final double[] lagSeconds;
+    private final Map<Integer, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<HikariDataSource> replicas,
+                                    RecentWriteStore recentWriteStore,
+                                    Duration maxLag,
+                                    Duration stickiness,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.recentWriteStore = recentWriteStore;
+        this.maxLagNanos = maxLag.toNanos();
+        this.stickiness = stickiness;
+        this.stickinessNanos = stickiness.toNanos();
+        this.lagSeconds = new double[replicas.size()];
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = i;
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+            lagSeconds[i] = Double.NaN;
+            Gauge.builder("orders.datasource.replica.lag", () -> lagSeconds[index])
+                    .description("Replication lag of a read replica in seconds, or NaN if it is unreachable")
+                    .baseUnit("seconds")
+                    .tag("replica", REPLICA_PREFIX + i)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("orders.datasource.replicas.healthy", () -> healthyReplicas.size())
+                .description("Read replicas currently receiving read-only transactions")
+                .register(meterRegistry);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Routes read-only transactions to a healthy replica in round-robin order.
+     * Read-write work goes to the primary; once it commits, the current user reads from the primary for the
+     * stickiness period, so they see their own writes. The write is remembered locally and in Redis, so reads
+     * handled by other nodes stick to the primary as well. Without a healthy replica reads fall back to the primary.
+     *
+     * @return the key of the target datasource
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) {
+                markWriteAfterCommit(userId);
+            }
+            return PRIMARY;
+        }
+        List<String> available = healthyReplicas;
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        if (userId != null && (isSticky(userId) || recentWriteStore.isMarked(userId))) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * Measures the replication lag of every replica and keeps only those within the maximum lag in rotation.
+     * Unreachable replicas are taken out of rotation until they answer again.
+     */
+    public void refreshLag() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            lagSeconds[i] = measureLag(replicas.get(i));
+            if (lagSeconds[i] * 1_000_000_000L <= maxLagNanos) {
+                healthy.add(REPLICA_PREFIX + i);
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickinessNanos);
+    }
+
+    /**
+     * Checks if any read replica is configured; without one every transaction goes to the primary.
+     *
+     * @return true if there is at least one replica, false otherwise
+     */
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * Retrieves the keys of the replicas currently in rotation.
+     *
+     * @return the replica keys
+     */
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    private void markWriteAfterCommit(int userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWrite(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWrite(userId);
+            }
+        });
+    }
+
+    private void markWrite(int userId) {
+        lastWrites.put(userId, System.nanoTime());
+        recentWriteStore.mark(userId, stickiness);
+    }
+
+    private boolean isSticky(Integer userId) {
+        Long writtenAt = lastWrites.get(userId);
+        return writtenAt != null && System.nanoTime() - writtenAt < stickinessNanos;
+    }
+
+    private static double measureLag(HikariDataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            return resultSet.next() ? resultSet.getDouble(1) : Double.NaN;
+        } catch (SQLException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static Integer currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtEntity user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.aren.orderserver.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventDto {
+
+    private String offset;
+    private Long eventId;
+    private Integer orderId;
+    private String type;
+    private String status;
+    private Integer userId;
+    private OffsetDateTime createdDate;
+
+}
@@ -0,0 +1,20 @@
+package com.aren.orderserver.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventOffsetDto {
+
+    private String consumer;
+
+    @NotNull(message = "Offset must not be null")
+    @Pattern(regexp = "\\d+-\\d+", message = "Offset must look like <milliseconds>-<sequence>")
+    private String offset;
+
+}
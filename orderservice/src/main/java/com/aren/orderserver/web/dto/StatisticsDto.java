@@ -1,10 +1,14 @@
 package com.aren.orderserver.web.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class StatisticsDto {
 
     private Long processed;
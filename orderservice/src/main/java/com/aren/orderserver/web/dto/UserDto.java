@@ -5,6 +5,7 @@ import com.aren.orderserver.web.validation.OnCreate;
 import com.aren.orderserver.web.validation.OnUpdate;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 import org.hibernate.validator.constraints.Length;
 
@@ -23,10 +24,11 @@ public class UserDto {
     private String password;
 
     @NotNull(message = "Email must not be null", groups = {OnUpdate.class, OnCreate.class})
-    @CheckEmail
+    @CheckEmail(groups = {OnUpdate.class, OnCreate.class})
     private String email;
 
     @NotNull
+    @Pattern(regexp = "POSTER|PROCESSOR", message = "Role must be POSTER or PROCESSOR", groups = {OnUpdate.class, OnCreate.class})
     private String role;
 
 }
@@ -0,0 +1,17 @@
+package com.aren.orderserver.web.dto;
+
+import com.aren.orderserver.web.validation.OnCreate;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserImportDto {
+
+    @NotEmpty(message = "Users must not be empty", groups = OnCreate.class)
+    @Valid
+    private List<UserDto> users;
+
+}
@@ -0,0 +1,20 @@
+package com.aren.orderserver.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResultDto {
+
+    private int requested;
+    private List<UserDto> created;
+    private List<String> skipped;
+
+}
@@ -3,7 +3,21 @@ package com.aren.orderserver.web.mappers;
 import com.aren.orderserver.entities.Order;
 import com.aren.orderserver.web.dto.OrderDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface OrderMapper extends Mappable<Order, OrderDto>{
+
+    /**
+     * Maps an order request to an entity. The status, version and archived flag are set by the server,
+     * so any values sent by the client are ignored.
+     *
+     * @param dto the order request
+     * @return the order entity without a status or version
+     */
+    @Override
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "archived", ignore = true)
+    Order toEntity(OrderDto dto);
 }
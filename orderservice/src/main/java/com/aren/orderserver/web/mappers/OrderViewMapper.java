@@ -0,0 +1,48 @@
+package com.aren.orderserver.web.mappers;
+
+import com.aren.orderserver.entities.OrderView;
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.dto.OrderDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+@Mapper(componentModel = "spring")
+public interface OrderViewMapper {
+
+    @Mapping(target = "createdBy", expression = "java(toUser(view.getCreatedById(), view.getCreatedByUsername(), view.getCreatedByEmail(), view.getCreatedByRole()))")
+    @Mapping(target = "processedBy", expression = "java(toUser(view.getProcessedById(), view.getProcessedByUsername(), view.getProcessedByEmail(), view.getProcessedByRole()))")
+    OrderDto toDto(OrderView view);
+
+    /**
+     * Builds a user from the joined user columns of an order row, leaving the password out.
+     *
+     * @param id       the user ID
+     * @param username the username
+     * @param email    the email
+     * @param role     the role of the user
+     * @return the user, or null if the order has no such user
+     */
+    default User toUser(Integer id, String username, String email, UserRole role) {
+        if (id == null) {
+            return null;
+        }
+        User user = new User(username, null, email, role);
+        user.setId(id);
+        return user;
+    }
+
+    /**
+     * Converts a timestamp without time zone to the offset used when it was stored by JPA.
+     *
+     * @param dateTime the local timestamp
+     * @return the timestamp at the system default offset
+     */
+    default OffsetDateTime toOffsetDateTime(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+}
@@ -0,0 +1,198 @@
+package com.aren.orderserver.web.redis;
+
+import com.aren.orderserver.configs.properties.IdempotencyProperties;
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.exceptions.RequestInProgressException;
+import com.aren.orderserver.web.security.JwtEntity;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int FINGERPRINT_LENGTH = 64;
+
+    private final RedissonClient redissonClient;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, LocalEntry> localResponses;
+    private final Counter replays;
+    private final Counter errors;
+
+    public IdempotencyStore(RedissonClient redissonClient,
+                            IdempotencyProperties properties,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        // Stored results keep full ISO dates with their offsets and are read back unchanged, so a replay shows
+        // the same createdDate and updatedDate as the original response.
+        this.objectMapper = objectMapper.copy()
+                .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+                .setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+                    @Override
+                    public JsonFormat.Value findFormat(Annotated annotated) {
+                        return JsonFormat.Value.empty();
+                    }
+                });
+        this.localResponses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > properties.getLocalCapacity();
+            }
+        });
+        this.replays = meterRegistry.counter("orders.idempotency.replays");
+        this.errors = meterRegistry.counter("orders.idempotency.errors");
+    }
+
+    /**
+     * Runs an action once per idempotency key of the current user and answers repeated requests with the stored result.
+     * The key is reserved in Redis before the action runs, so a retry arriving while the first attempt is still running
+     * is rejected instead of running the action twice. If the action fails, or its result can not be stored, the reservation
+     * is dropped so the client can retry.
+     * Results are stored in their full-precision JSON form and kept on the node as well, so a retry landing on the same node
+     * is answered without a Redis round trip.
+     * If Redis is unavailable the action runs without deduplication.
+     *
+     * @param key     the Idempotency-Key header, or null to run the action unconditionally
+     * @param scope   the operation the key belongs to
+     * @param request the parts of the request that must match between retries
+     * @param type    the type of the result
+     * @param action  the action producing the result
+     * @return the result of the action, or the stored result of an earlier request with the same key
+     * @throws IllegalStateException      if the key is too long or was used for a different request
+     * @throws RequestInProgressException if a request with the same key is still running
+     */
+    public <T> T execute(String key, String scope, String request, Class<T> type, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isEmpty() || key.length() > properties.getMaxKeyLength()) {
+            throw new IllegalStateException(
+                    "Idempotency key must be between 1 and " + properties.getMaxKeyLength() + " characters");
+        }
+        String storeKey = KEY_PREFIX + getCaller() + ":" + scope + ":" + key;
+        String fingerprint = fingerprint(request);
+
+        LocalEntry local = localResponses.get(storeKey);
+        if (local != null && local.expiresAt() > System.currentTimeMillis()) {
+            return replay(local.value(), fingerprint, type);
+        }
+
+        RBucket<String> bucket = redissonClient.getBucket(storeKey, StringCodec.INSTANCE);
+        try {
+            if (!bucket.setIfAbsent(fingerprint, properties.getInProgressTimeout())) {
+                String stored = bucket.get();
+                if (stored == null || stored.length() == FINGERPRINT_LENGTH) {
+                    if (stored != null && !stored.equals(fingerprint)) {
+                        throw new IllegalStateException("Idempotency key was already used for a different request");
+                    }
+                    throw new RequestInProgressException(ErrorCode.REQUEST_IN_PROGRESS);
+                }
+                remember(storeKey, stored);
+                return replay(stored, fingerprint, type);
+            }
+        } catch (RedisException e) {
+            errors.increment();
+            return action.get();
+        }
+
+        T result;
+        String value;
+        try {
+            result = action.get();
+            value = fingerprint + write(result);
+        } catch (RuntimeException e) {
+            release(bucket, fingerprint);
+            throw e;
+        }
+        try {
+            bucket.set(value, properties.getTtl());
+        } catch (RedisException e) {
+            errors.increment();
+        }
+        remember(storeKey, value);
+        return result;
+    }
+
+    private <T> T replay(String stored, String fingerprint, Class<T> type) {
+        if (!stored.startsWith(fingerprint)) {
+            throw new IllegalStateException("Idempotency key was already used for a different request");
+        }
+        replays.increment();
+        try {
+            return objectMapper.readValue(stored.substring(FINGERPRINT_LENGTH), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response could not be read", e);
+        }
+    }
+
+    private String write(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response could not be stored", e);
+        }
+    }
+
+    private void remember(String storeKey, String value) {
+        localResponses.put(storeKey, new LocalEntry(value, System.currentTimeMillis() + properties.getLocalTtl().toMillis()));
+    }
+
+    private void release(RBucket<String> bucket, String fingerprint) {
+        try {
+            bucket.compareAndSet(fingerprint, null);
+        } catch (RedisException e) {
+            errors.increment();
+        }
+    }
+
+    private static String getCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtEntity user) {
+            return String.valueOf(user.getId());
+        }
+        return "anonymous";
+    }
+
+    /**
+     * Hashes the request with SHA-256, so that two different requests practically never share a fingerprint.
+     *
+     * @param request the parts of the request that must match between retries
+     * @return the hash as {@value #FINGERPRINT_LENGTH} hex digits
+     */
+    private static String fingerprint(String request) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(request.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record LocalEntry(String value, long expiresAt) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.aren.orderserver.web.redis;
+
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.security.JwtEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class OrderChangeTracker {
+
+    private static final String ALL_KEY = "{orderChanges}:all";
+    private static final String ARCHIVE_KEY = "{orderChanges}:archive";
+    private static final String OWNER_KEY_PREFIX = "{orderChanges}:owner:";
+    private static final String BUMP_SCRIPT = """
+            local time = redis.call('time')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            for _, key in ipairs(KEYS) do
+                local next = math.max((tonumber(redis.call('get', key)) or 0) + 1, now)
+                redis.call('set', key, string.format('%d', next))
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final Counter errors;
+
+    public OrderChangeTracker(RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.errors = Counter.builder("orders.changes.errors")
+                .description("Order changes whose list version could not be bumped, leaving lists cacheable until the next change")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records that an order of the given owner changed, once the current transaction commits.
+     * Versions never repeat, even if Redis loses them, because each one is at least the Redis time in microseconds.
+     *
+     * @param ownerId the ID of the user who created the order, or null if unknown
+     */
+    public void markChanged(Integer ownerId) {
+        List<Object> keys = new ArrayList<>(2);
+        keys.add(ALL_KEY);
+        if (ownerId != null) {
+            keys.add(OWNER_KEY_PREFIX + ownerId);
+        }
+        afterCommit(keys);
+    }
+
+    /**
+     * Records that orders were moved to the archive, which changes the order lists of every owner.
+     */
+    public void markArchived() {
+        afterCommit(List.of(ALL_KEY, ARCHIVE_KEY));
+    }
+
+    /**
+     * Retrieves the version of the order list the current user sees: all orders for processors,
+     * own orders for posters.
+     *
+     * @return the version, or null if it is unknown and the list can not be validated
+     */
+    public String getOrdersVersion() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtEntity user)) {
+            return null;
+        }
+        try {
+            if (authentication.getAuthorities().contains(new SimpleGrantedAuthority(UserRole.PROCESSOR.name()))) {
+                String all = redissonClient.<String>getBucket(ALL_KEY, StringCodec.INSTANCE).get();
+                return all == null ? null : "all-" + all;
+            }
+            String ownerKey = OWNER_KEY_PREFIX + user.getId();
+            Map<String, String> versions = redissonClient.getBuckets(StringCodec.INSTANCE).get(ownerKey, ARCHIVE_KEY);
+            String owner = versions.get(ownerKey);
+            return owner == null ? null : "owner-" + user.getId() + "-" + owner + "-" + versions.getOrDefault(ARCHIVE_KEY, "0");
+        } catch (RedisException e) {
+            return null;
+        }
+    }
+
+    private void afterCommit(List<Object> keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(keys);
+            }
+        });
+    }
+
+    private void bump(List<Object> keys) {
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE)
+                    .eval(RScript.Mode.READ_WRITE, BUMP_SCRIPT, RScript.ReturnType.INTEGER, keys);
+        } catch (RedisException e) {
+            errors.increment();
+        }
+    }
+}
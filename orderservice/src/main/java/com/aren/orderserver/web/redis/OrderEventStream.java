@@ -0,0 +1,174 @@
+package com.aren.orderserver.web.redis;
+
+import com.aren.orderserver.configs.properties.OrderEventProperties;
+import com.aren.orderserver.configs.properties.RedisClientProperties;
+import com.aren.orderserver.entities.OrderEvent;
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.exceptions.EventReadRejectedException;
+import com.aren.orderserver.services.OrderEventPublisher;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamReadArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+@Component
+public class OrderEventStream implements OrderEventPublisher {
+
+    private static final String OFFSETS_KEY_SUFFIX = ":offsets";
+
+    private final RedissonClient redissonClient;
+    private final RedissonClient blockingRedissonClient;
+    private final OrderEventProperties orderEventProperties;
+    private final RedisClientProperties redisClientProperties;
+    private final Semaphore blockingReads;
+
+    public OrderEventStream(RedissonClient redissonClient,
+                            @Qualifier("blockingRedissonClient") RedissonClient blockingRedissonClient,
+                            OrderEventProperties orderEventProperties,
+                            RedisClientProperties redisClientProperties) {
+        this.redissonClient = redissonClient;
+        this.blockingRedissonClient = blockingRedissonClient;
+        this.orderEventProperties = orderEventProperties;
+        this.redisClientProperties = redisClientProperties;
+        this.blockingReads = new Semaphore(redisClientProperties.getBlockingReads().getMaxConcurrent());
+    }
+
+    /**
+     * Appends the events to the stream in one pipelined round trip, trimming the stream to its maximum length.
+     *
+     * @param events the events in outbox order
+     */
+    @Override
+    public void publish(List<OrderEvent> events) {
+        RBatch batch = redissonClient.createBatch(redisClientProperties.getPipeline().toBatchOptions());
+        RStreamAsync<String, String> stream = batch.getStream(orderEventProperties.getStream(), StringCodec.INSTANCE);
+        for (OrderEvent event : events) {
+            stream.addAsync(StreamAddArgs.entries(toEntries(event))
+                    .trimNonStrict()
+                    .maxLen(orderEventProperties.getMaxLength())
+                    .noLimit());
+        }
+        batch.execute();
+    }
+
+    /**
+     * Reads the events published after the given offset, waiting for new ones if there are none yet.
+     * Waiting reads run on the blocking client, at most orders.redis.blocking-reads.max-concurrent at a time;
+     * beyond that a read only returns the events already there.
+     *
+     * @param after the offset of the last event already seen
+     * @param count the maximum number of events
+     * @param wait  how long to wait for new events, or zero to return immediately
+     * @return the events in stream order
+     * @throws EventReadRejectedException if the read would have to wait but too many reads are waiting already
+     */
+    public List<OrderEventDto> read(StreamMessageId after, int count, Duration wait) {
+        StreamReadArgs args = StreamReadArgs.greaterThan(after).count(count);
+        if (wait.isZero()) {
+            return toDtos(getStream(redissonClient).read(args));
+        }
+        if (!blockingReads.tryAcquire()) {
+            List<OrderEventDto> events = toDtos(getStream(redissonClient).read(args));
+            if (events.isEmpty()) {
+                throw new EventReadRejectedException(ErrorCode.TOO_MANY_EVENT_READERS);
+            }
+            return events;
+        }
+        try {
+            return toDtos(getStream(blockingRedissonClient).read(args.timeout(wait)));
+        } finally {
+            blockingReads.release();
+        }
+    }
+
+    /**
+     * Retrieves the ID of the newest event in the stream.
+     *
+     * @return the ID of the newest event, or null if the stream does not exist yet
+     */
+    public String getLastOffset() {
+        RStream<String, String> stream = getStream(redissonClient);
+        if (!stream.isExists()) {
+            return null;
+        }
+        return stream.getInfo().getLastGeneratedId().toString();
+    }
+
+    /**
+     * Retrieves the offset committed by a consumer.
+     *
+     * @param consumer the name of the consumer
+     * @return the committed offset, or null if the consumer has not committed one
+     */
+    public String getOffset(String consumer) {
+        return getOffsets().get(consumer);
+    }
+
+    /**
+     * Commits the offset of the last event a consumer has processed.
+     *
+     * @param consumer the name of the consumer
+     * @param offset   the offset of the last processed event
+     */
+    public void setOffset(String consumer, String offset) {
+        getOffsets().fastPut(consumer, offset);
+    }
+
+    private RStream<String, String> getStream(RedissonClient client) {
+        return client.getStream(orderEventProperties.getStream(), StringCodec.INSTANCE);
+    }
+
+    private RMap<String, String> getOffsets() {
+        return redissonClient.getMap(orderEventProperties.getStream() + OFFSETS_KEY_SUFFIX, StringCodec.INSTANCE);
+    }
+
+    private static List<OrderEventDto> toDtos(Map<StreamMessageId, Map<String, String>> messages) {
+        List<OrderEventDto> events = new ArrayList<>(messages == null ? 0 : messages.size());
+        if (messages != null) {
+            messages.forEach((id, entries) -> events.add(toDto(id, entries)));
+        }
+        return events;
+    }
+
+    private static Map<String, String> toEntries(OrderEvent event) {
+        Map<String, String> entries = new HashMap<>();
+        entries.put("eventId", String.valueOf(event.getId()));
+        entries.put("orderId", String.valueOf(event.getOrderId()));
+        entries.put("type", event.getType());
+        entries.put("status", event.getStatus().name());
+        if (event.getUserId() != null) {
+            entries.put("userId", String.valueOf(event.getUserId()));
+        }
+        entries.put("createdDate", event.getCreatedDate().toString());
+        return entries;
+    }
+
+    private static OrderEventDto toDto(StreamMessageId id, Map<String, String> entries) {
+        String userId = entries.get("userId");
+        return OrderEventDto.builder()
+                .offset(id.toString())
+                .eventId(Long.valueOf(entries.get("eventId")))
+                .orderId(Integer.valueOf(entries.get("orderId")))
+                .type(entries.get("type"))
+                .status(entries.get("status"))
+                .userId(userId == null ? null : Integer.valueOf(userId))
+                .createdDate(OffsetDateTime.parse(entries.get("createdDate")))
+                .build();
+    }
+}
@@ -1,35 +1,88 @@
 package com.aren.orderserver.web.redis;
 
-
-import lombok.RequiredArgsConstructor;
+import com.aren.orderserver.configs.properties.RedisClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
-@RequiredArgsConstructor
 public class OrderProcessingLock {
 
+    private static final String LOCK_PREFIX = "orderLock:";
+
     private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final RedisClientProperties redisClientProperties;
+    private final Timer acquireTimer;
+    private final Timer holdTimer;
+    private final Counter contentionCounter;
+    private final Map<Integer, Timer.Sample> holdSamples = new ConcurrentHashMap<>();
+
+    public OrderProcessingLock(RedissonClient redissonClient,
+                               MeterRegistry meterRegistry,
+                               ObservationRegistry observationRegistry,
+                               RedisClientProperties redisClientProperties) {
+        this.redissonClient = redissonClient;
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        this.redisClientProperties = redisClientProperties;
+        this.acquireTimer = Timer.builder("orders.lock.acquire")
+                .description("Time taken to acquire an order processing lock")
+                .register(meterRegistry);
+        this.holdTimer = Timer.builder("orders.lock.hold")
+                .description("Time an order processing lock was held")
+                .register(meterRegistry);
+        this.contentionCounter = Counter.builder("orders.lock.contention")
+                .description("Attempts that found an order processing lock already held")
+                .register(meterRegistry);
+    }
 
     /**
      * Acquires a lock for the specified order ID.
      *
      * @param orderId the ID of the order to acquire lock for
+     * @return true if the lock was acquired, false if it is held by someone else
      */
-    public void acquireLock(Integer orderId) {
-        RLock lock = redissonClient.getLock("orderLock:" + orderId);
-        lock.tryLock();
+    public boolean acquireLock(Integer orderId) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + orderId);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean acquired = command("tryLock", lock).observe(() -> lock.tryLock());
+        sample.stop(acquireTimer);
+        if (acquired) {
+            holdSamples.put(orderId, Timer.start(meterRegistry));
+        } else {
+            contentionCounter.increment();
+        }
+        return acquired;
     }
 
     /**
-     * Releases the lock for the specified order ID.
+     * Releases the lock for the specified order ID. Must only be called after {@link #acquireLock} returned true.
      *
      * @param orderId the ID of the order to release lock for
      */
     public void releaseLock(Integer orderId) {
-        RLock lock = redissonClient.getLock("orderLock:" + orderId);
-        lock.unlock();
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + orderId);
+        Timer.Sample sample = holdSamples.remove(orderId);
+        if (sample != null) {
+            sample.stop(holdTimer);
+        }
+        command("unlock", lock).observe(() -> lock.unlock());
     }
 
     /**
@@ -39,7 +92,56 @@ public class OrderProcessingLock {
      * @return true if the order is locked, false otherwise
      */
     public boolean isLocked(Integer orderId) {
-        RLock lock = redissonClient.getLock("orderLock:" + orderId);
-        return lock.isLocked();
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + orderId);
+        boolean locked = command("isLocked", lock).observe(() -> lock.isLocked());
+        if (locked) {
+            contentionCounter.increment();
+        }
+        return locked;
+    }
+
+    /**
+     * Checks which of the given orders are currently locked, in one pipelined round trip.
+     *
+     * @param orderIds the IDs of the orders to check
+     * @return the IDs of the orders that are locked
+     */
+    public Set<Integer> getLocked(Collection<Integer> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        RBatch batch = redissonClient.createBatch(redisClientProperties.getPipeline().toBatchOptions());
+        Map<Integer, RFuture<Boolean>> checks = new LinkedHashMap<>();
+        for (Integer orderId : orderIds) {
+            checks.put(orderId, batch.getBucket(LOCK_PREFIX + orderId).isExistsAsync());
+        }
+        command("isLocked", LOCK_PREFIX + "*").observe(() -> batch.execute());
+
+        Set<Integer> locked = new HashSet<>();
+        checks.forEach((orderId, check) -> {
+            if (check.toCompletableFuture().join()) {
+                locked.add(orderId);
+            }
+        });
+        return locked;
+    }
+
+    /**
+     * Creates the client observation for a Redisson call on the given lock.
+     *
+     * @param operation the name of the lock operation
+     * @param lock      the lock the operation runs on
+     * @return the observation, not yet started
+     */
+    private Observation command(String operation, RLock lock) {
+        return command(operation, lock.getName());
+    }
+
+    private Observation command(String operation, String key) {
+        return Observation.createNotStarted("redisson.command", observationRegistry)
+                .contextualName("redisson " + operation)
+                .lowCardinalityKeyValue("db.system", "redis")
+                .lowCardinalityKeyValue("db.operation", operation)
+                .highCardinalityKeyValue("db.redis.key", key);
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.aren.orderserver.web.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remembers in Redis which users committed a write recently, so that every node sends their reads to the primary
+ * for the stickiness period, not only the node that handled the write.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentWriteStore {
+
+    private static final String KEY_PREFIX = "recentWrite:";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * Marks that the user committed a write. Failures are ignored, the node that wrote still remembers it locally.
+     *
+     * @param userId     the ID of the user
+     * @param stickiness how long the user reads from the primary
+     */
+    public void mark(int userId, Duration stickiness) {
+        try {
+            redissonClient.getBucket(KEY_PREFIX + userId, StringCodec.INSTANCE).set("1", stickiness);
+        } catch (RedisException e) {
+            // The marker expires anyway; the writing node still routes the user to the primary.
+        }
+    }
+
+    /**
+     * Checks if the user committed a write within the stickiness period on any node.
+     *
+     * @param userId the ID of the user
+     * @return true if the user wrote recently or Redis can not tell, false otherwise
+     */
+    public boolean isMarked(int userId) {
+        try {
+            return redissonClient.getBucket(KEY_PREFIX + userId, StringCodec.INSTANCE).isExists();
+        } catch (RedisException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.aren.orderserver.web.redis;
+
+import com.aren.orderserver.web.security.RateLimiter;
+import com.aren.orderserver.web.security.properties.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rateLimit:";
+    private static final String ACQUIRE_SCRIPT = """
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('time')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('hmget', KEYS[1], 'tokens', 'timestamp')
+            local tokens = tonumber(bucket[1]) or capacity
+            local timestamp = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - timestamp) * rate / 1000)
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+            redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'timestamp', now)
+            redis.call('pexpire', KEYS[1], math.ceil(capacity / rate * 1000))
+            return allowed
+            """;
+
+    private final RedissonClient redissonClient;
+    private final Counter errors;
+
+    public RedisRateLimiter(RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.errors = Counter.builder("security.rate-limit.errors")
+                .description("Requests let through because the shared rate limit could not be checked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the bucket of the key shared by all nodes, in one script call.
+     * The bucket uses the Redis clock so nodes with skewed clocks agree on the refill,
+     * and expires once it would have refilled completely.
+     * If Redis is unavailable the request is let through, as the limiter must not take the service down with it.
+     *
+     * @param key   the caller and route the bucket belongs to
+     * @param limit the capacity and refill rate of the bucket
+     * @return true if a token was available or Redis could not be reached, false otherwise
+     */
+    @Override
+    public boolean tryAcquire(String key, RateLimitProperties.Limit limit) {
+        try {
+            return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    ACQUIRE_SCRIPT,
+                    RScript.ReturnType.BOOLEAN,
+                    List.<Object>of(KEY_PREFIX + key),
+                    String.valueOf(limit.getCapacity()), String.valueOf(limit.getRefillPerSecond()));
+        } catch (RedisException e) {
+            errors.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.aren.orderserver.web.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Keeps the current refresh token of every token family in Redis.
+ * A revoked family has no current token, so the rotation script doubles as the revocation check and a refresh
+ * costs exactly one Redis round trip; there is no local shortcut, since only Redis knows which token is current.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "refreshFamily:";
+    private static final String ROTATE_SCRIPT = """
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * Registers the first refresh token of a new token family.
+     *
+     * @param familyId the ID of the token family
+     * @param tokenId  the ID of the refresh token
+     * @param ttl      the lifetime of the refresh token
+     */
+    public void register(String familyId, String tokenId, Duration ttl) {
+        redissonClient.<String>getBucket(FAMILY_KEY_PREFIX + familyId, StringCodec.INSTANCE)
+                .set(tokenId, ttl);
+    }
+
+    /**
+     * Atomically replaces the current refresh token of a family with its successor.
+     *
+     * @param familyId    the ID of the token family
+     * @param tokenId     the ID of the presented refresh token
+     * @param nextTokenId the ID of the refresh token issued in exchange
+     * @param ttl         the lifetime of the new refresh token
+     * @return true if the presented token was the current one, false if it was already rotated, revoked or expired
+     */
+    public boolean rotate(String familyId, String tokenId, String nextTokenId, Duration ttl) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ROTATE_SCRIPT,
+                RScript.ReturnType.BOOLEAN,
+                List.<Object>of(FAMILY_KEY_PREFIX + familyId),
+                tokenId, nextTokenId, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * Revokes a token family, so that none of its refresh tokens can be rotated any more.
+     *
+     * @param familyId the ID of the token family
+     */
+    public void revoke(String familyId) {
+        redissonClient.getBucket(FAMILY_KEY_PREFIX + familyId, StringCodec.INSTANCE).delete();
+    }
+}
@@ -0,0 +1,72 @@
+package com.aren.orderserver.web.schedules;
+
+import com.aren.orderserver.configs.properties.OrderArchiveProperties;
+import com.aren.orderserver.services.OrderArchiveService;
+import com.aren.orderserver.web.redis.OrderCacheEvictor;
+import com.aren.orderserver.web.redis.OrderChangeTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@EnableScheduling
+public class OrderArchiver {
+
+    private static final String ARCHIVER_LOCK = "orderArchiver";
+
+    private final OrderArchiveService orderArchiveService;
+    private final OrderArchiveProperties orderArchiveProperties;
+    private final RedissonClient redissonClient;
+    private final OrderCacheEvictor orderCacheEvictor;
+    private final OrderChangeTracker orderChangeTracker;
+    private final Counter archivedCounter;
+
+    public OrderArchiver(OrderArchiveService orderArchiveService,
+                         OrderArchiveProperties orderArchiveProperties,
+                         RedissonClient redissonClient,
+                         OrderCacheEvictor orderCacheEvictor,
+                         OrderChangeTracker orderChangeTracker,
+                         MeterRegistry meterRegistry) {
+        this.orderArchiveService = orderArchiveService;
+        this.orderArchiveProperties = orderArchiveProperties;
+        this.redissonClient = redissonClient;
+        this.orderCacheEvictor = orderCacheEvictor;
+        this.orderChangeTracker = orderChangeTracker;
+        this.archivedCounter = Counter.builder("orders.archive.moved")
+                .description("Processed orders moved to the archive partitions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives old processed orders batch by batch until none are left, evicting their cached copies
+     * and invalidating the ETags of the order lists they were part of.
+     * Only one node archives at a time.
+     */
+    @Scheduled(fixedDelayString = "${orders.archive.interval:60000}")
+    public void archive() {
+        RLock lock = redissonClient.getLock(ARCHIVER_LOCK);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            List<Integer> archived;
+            do {
+                archived = orderArchiveService.archiveProcessed();
+                orderCacheEvictor.evict(archived);
+                if (!archived.isEmpty()) {
+                    orderChangeTracker.markArchived();
+                }
+                archivedCounter.increment(archived.size());
+            } while (archived.size() == orderArchiveProperties.getBatchSize());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.aren.orderserver.web.schedules;
+
+import com.aren.orderserver.configs.properties.OrderEventProperties;
+import com.aren.orderserver.services.OrderEventService;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@EnableScheduling
+public class OrderEventRelay {
+
+    private static final String RELAY_LOCK = "orderEventRelay";
+
+    private final OrderEventService orderEventService;
+    private final OrderEventProperties orderEventProperties;
+    private final RedissonClient redissonClient;
+
+    /**
+     * Drains the outbox to the event stream. Only one node relays at a time so events are published in outbox order.
+     */
+    @Scheduled(fixedDelayString = "${orders.events.relay-interval:500}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            int published;
+            do {
+                published = orderEventService.relayPending();
+            } while (published == orderEventProperties.getBatchSize());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
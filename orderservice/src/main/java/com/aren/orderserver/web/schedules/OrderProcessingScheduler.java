@@ -1,38 +1,72 @@
 package com.aren.orderserver.web.schedules;
 
 import com.aren.orderserver.entities.Order;
-import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.exceptions.OrderProgressException;
 import com.aren.orderserver.services.OrderService;
-import lombok.RequiredArgsConstructor;
+import com.aren.orderserver.web.redis.OrderProcessingLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 @EnableScheduling
 public class OrderProcessingScheduler {
 
     private final OrderService orderService;
+    private final OrderProcessingLock orderProcessingLock;
+    private final Timer runTimer;
+    private final Counter reapedCounter;
+    private final Counter conflictCounter;
+
+    public OrderProcessingScheduler(OrderService orderService,
+                                    OrderProcessingLock orderProcessingLock,
+                                    MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.orderProcessingLock = orderProcessingLock;
+        this.runTimer = Timer.builder("orders.scheduler.run")
+                .description("Time taken by a run returning stale in-process orders to READY")
+                .register(meterRegistry);
+        this.reapedCounter = Counter.builder("orders.scheduler.reaped")
+                .description("Orders returned to READY because processing took too long")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("orders.scheduler.conflicts")
+                .description("Stale in-process orders skipped because they changed after being read")
+                .register(meterRegistry);
+    }
 
     /**
      * Checks and returns orders to READY status if processing time is exceeded.
+     * Orders completed or returned concurrently since they were read are skipped, as are orders whose
+     * processing lock is held; the locks of all stale orders are checked in one round trip.
      */
     @Scheduled(fixedRate = 60000)
     public void checkAndReturnOrdersToReadyStatus() {
-        List<Order> inProcessOrders = orderService.getInProcessOrders();
-
-        for (Order order : inProcessOrders) {
-            if (isProcessingTimeExceeded(order)) {
-                order.setStatus(OrderStatus.READY.name());
-                order.setProcessedBy(null);
-                order.setUpdatedDate(null);
-                orderService.updateOrder(order);
+        runTimer.record(() -> {
+            List<Order> staleOrders = orderService.getInProcessOrders().stream()
+                    .filter(this::isProcessingTimeExceeded)
+                    .toList();
+            Set<Integer> locked = orderProcessingLock.getLocked(staleOrders.stream().map(Order::getId).toList());
+
+            for (Order order : staleOrders) {
+                if (locked.contains(order.getId())) {
+                    continue;
+                }
+                try {
+                    orderService.returnToReady(order);
+                    reapedCounter.increment();
+                } catch (OptimisticLockingFailureException | OrderProgressException e) {
+                    conflictCounter.increment();
+                }
             }
-        }
+        });
     }
 
     /**
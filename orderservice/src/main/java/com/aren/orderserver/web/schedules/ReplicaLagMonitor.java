@@ -0,0 +1,26 @@
+package com.aren.orderserver.web.schedules;
+
+import com.aren.orderserver.web.datasource.ReplicaRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@EnableScheduling
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    /**
+     * Refreshes the replication lag of the read replicas, if any are configured.
+     */
+    @Scheduled(fixedDelayString = "${orders.datasource.lag-check-interval:1000}")
+    public void checkLag() {
+        if (replicaRoutingDataSource.hasReplicas()) {
+            replicaRoutingDataSource.refreshLag();
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.aren.orderserver.web.security;
+
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.exceptions.PasswordHashingRejectedException;
+import com.aren.orderserver.web.security.properties.PasswordHashingProperties;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int strength;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(PasswordHashingProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.strength = properties.getStrength();
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Hashes the raw password on the hashing pool.
+     *
+     * @param rawPassword the password to hash
+     * @return the BCrypt hash of the password
+     * @throws PasswordHashingRejectedException if the hashing pool is saturated or the hash takes too long
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Hashes many raw passwords on the hashing pool, keeping at most the given number in flight,
+     * so a bulk operation leaves the rest of the pool to logins.
+     *
+     * @param rawPasswords the passwords to hash
+     * @param parallelism  the maximum number of hashes in flight
+     * @return the BCrypt hashes, in the order of the passwords
+     * @throws PasswordHashingRejectedException if the hashing pool is saturated or a hash takes too long
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords, int parallelism) {
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        ArrayDeque<Future<String>> inFlight = new ArrayDeque<>(parallelism);
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                if (inFlight.size() >= parallelism) {
+                    hashes.add(await(inFlight.removeFirst()));
+                }
+                inFlight.addLast(submit(() -> delegate.encode(rawPassword)));
+            }
+            while (!inFlight.isEmpty()) {
+                hashes.add(await(inFlight.removeFirst()));
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        return hashes;
+    }
+
+    /**
+     * Verifies the raw password against the stored hash on the hashing pool.
+     *
+     * @param rawPassword     the password to verify
+     * @param encodedPassword the stored BCrypt hash
+     * @return true if the password matches the hash, false otherwise
+     * @throws PasswordHashingRejectedException if the hashing pool is saturated or the check takes too long
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Checks if the stored hash was produced with a different cost factor than the configured one,
+     * so that it is rehashed on the next successful login.
+     *
+     * @param encodedPassword the stored BCrypt hash
+     * @return true if the hash cost differs from the configured strength, false otherwise
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty() || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart == 0 || encodedPassword.length() < costStart + 2) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, costStart, costStart + 2, 10) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Shuts down the hashing pool.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs a hashing task on the pool and waits for its result.
+     * Tasks are rejected immediately when the queue is full instead of piling up request threads.
+     *
+     * @param task the hashing task
+     * @return the result of the task
+     */
+    private <T> T execute(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.aren.orderserver.web.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.1;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+    private final int maxConcurrent;
+    private final int minConcurrent;
+    private final long latencyTargetNanos;
+
+    public ConcurrencyLimiter(int maxConcurrent, int minConcurrent, Duration latencyTarget) {
+        this.maxConcurrent = maxConcurrent;
+        this.minConcurrent = minConcurrent;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+    }
+
+    /**
+     * Admits a request if fewer requests than the current limit are in flight.
+     *
+     * @return true if the request was admitted and has to be released, false if it has to be shed
+     */
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases an admitted request and folds its latency into the moving average.
+     *
+     * @param latencyNanos how long the request took
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        averageLatencyNanos.getAndUpdate(average -> average + (long) (SMOOTHING * (latencyNanos - average)));
+    }
+
+    /**
+     * Retrieves the current concurrency limit, which drops to the minimum while the average latency exceeds the target.
+     *
+     * @return the maximum number of requests in flight
+     */
+    public int getLimit() {
+        return averageLatencyNanos.get() > latencyTargetNanos ? minConcurrent : maxConcurrent;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+}
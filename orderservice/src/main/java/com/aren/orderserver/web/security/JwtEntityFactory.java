@@ -1,6 +1,7 @@
 package com.aren.orderserver.web.security;
 
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -33,8 +34,8 @@ public class JwtEntityFactory {
      * @param role the role of the user
      * @return a list of GrantedAuthority objects containing the user's role
      */
-    private static List<GrantedAuthority> mapToGrantedAuthorities(final String role) {
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role);
+    private static List<GrantedAuthority> mapToGrantedAuthorities(final UserRole role) {
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role.name());
         return new ArrayList<>(Collections.singleton(authority));
     }
 }
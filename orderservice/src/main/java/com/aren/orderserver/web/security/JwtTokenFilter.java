@@ -4,16 +4,26 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.SneakyThrows;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
 
-@AllArgsConstructor
 public class JwtTokenFilter extends GenericFilterBean {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.meterRegistry = meterRegistry;
+        this.validTimer = validationTimer("valid");
+        this.invalidTimer = validationTimer("invalid");
+    }
 
     /**
      * Filters incoming requests for JWT tokens.
@@ -33,6 +43,8 @@ public class JwtTokenFilter extends GenericFilterBean {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             bearerToken = bearerToken.substring(7);
         }
+        Timer.Sample sample = bearerToken != null ? Timer.start(meterRegistry) : null;
+        boolean authenticated = false;
         try {
             if (bearerToken != null
                 && jwtTokenProvider.isValid(bearerToken)) {
@@ -42,10 +54,27 @@ public class JwtTokenFilter extends GenericFilterBean {
                     SecurityContextHolder
                             .getContext()
                             .setAuthentication(authentication);
+                    authenticated = true;
                 }
             }
         } catch (Exception ignored) {}
+        if (sample != null) {
+            sample.stop(authenticated ? validTimer : invalidTimer);
+        }
         filterChain.doFilter(servletRequest, servletResponse);
     }
 
+    /**
+     * Creates the timer recording how long validating a bearer token and loading its user took.
+     *
+     * @param outcome whether the token was accepted
+     * @return the timer
+     */
+    private Timer validationTimer(String outcome) {
+        return Timer.builder("security.jwt.validation")
+                .description("Time taken to validate a bearer token and load its user")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
 }
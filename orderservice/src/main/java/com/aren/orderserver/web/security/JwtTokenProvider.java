@@ -1,9 +1,12 @@
 package com.aren.orderserver.web.security;
 
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
 import com.aren.orderserver.exceptions.AccessDeniedException;
+import com.aren.orderserver.exceptions.ErrorCode;
 import com.aren.orderserver.services.UserService;
 import com.aren.orderserver.web.dto.auth.JwtResponse;
+import com.aren.orderserver.web.redis.RefreshTokenStore;
 import com.aren.orderserver.web.security.properties.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
@@ -18,17 +21,21 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String FAMILY_CLAIM = "fid";
+
     private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
     private final UserService userService;
+    private final RefreshTokenStore refreshTokenStore;
     private SecretKey key;
 
     /**
@@ -47,14 +54,14 @@ public class JwtTokenProvider {
      * @param role     the role of the user
      * @return the generated JWT access token
      */
-    public String createAccessToken(int userId, String username, String role) {
+    public String createAccessToken(int userId, String username, UserRole role) {
         Claims claims = Jwts.claims()
                 .subject(username)
                 .add("id", userId)
-                .add("roles", role)
+                .add("roles", role.name())
                 .build();
         Instant validity = Instant.now()
-                .plus(Long.parseLong(jwtProperties.getAccess()), ChronoUnit.HOURS);
+                .plusMillis(Long.parseLong(jwtProperties.getAccess()));
         return Jwts.builder()
                 .claims(claims)
                 .expiration(Date.from(validity))
@@ -63,46 +70,69 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Creates a refresh token for the given user details.
+     * Creates a refresh token for the given user details, starting a new token family.
      *
      * @param userId   the user ID
      * @param username the username
      * @return the generated JWT refresh token
      */
     public String createRefreshToken(int userId, String username) {
-        Claims claims = Jwts.claims()
-                .subject(username)
-                .add("id", userId)
-                .build();
-        Instant validity = Instant.now()
-                .plus(Long.parseLong(jwtProperties.getRefresh()), ChronoUnit.DAYS);
-        return Jwts.builder()
-                .claims(claims)
-                .expiration(Date.from(validity))
-                .signWith(key)
-                .compact();
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.register(familyId, tokenId, getRefreshValidity());
+        return buildRefreshToken(userId, username, familyId, tokenId);
     }
 
     /**
-     * Refreshes the user tokens if the provided refresh token is valid.
+     * Exchanges a refresh token for new access and refresh tokens.
+     * The presented refresh token is rotated out; presenting it again revokes the whole token family.
      *
      * @param refreshToken the refresh token
      * @return the new JWT access and refresh tokens
+     * @throws AccessDeniedException if the token is invalid, revoked or already used
      */
     public JwtResponse refreshUserTokens(final String refreshToken) {
         JwtResponse jwtResponse = new JwtResponse();
         if (!isValid(refreshToken)) {
-            throw new AccessDeniedException("Access denied");
+            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
         }
-        int userId = Integer.parseInt(getId(refreshToken));
+        Claims claims = getClaims(refreshToken);
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        String tokenId = claims.getId();
+        if (familyId == null || tokenId == null) {
+            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
+        }
+        String nextTokenId = UUID.randomUUID().toString();
+        if (!refreshTokenStore.rotate(familyId, tokenId, nextTokenId, getRefreshValidity())) {
+            refreshTokenStore.revoke(familyId);
+            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
+        }
+        int userId = claims.get("id", Integer.class);
         User user = userService.getUser(userId);
         jwtResponse.setId(userId);
         jwtResponse.setUsername(user.getUsername());
         jwtResponse.setAccessToken(createAccessToken(userId, user.getUsername(), user.getRole()));
-        jwtResponse.setRefreshToken(createRefreshToken(userId, user.getUsername()));
+        jwtResponse.setRefreshToken(buildRefreshToken(userId, user.getUsername(), familyId, nextTokenId));
         return jwtResponse;
     }
 
+    /**
+     * Revokes the provided refresh token together with every token rotated from the same login.
+     *
+     * @param refreshToken the refresh token
+     * @throws AccessDeniedException if the token is invalid
+     */
+    public void revokeRefreshToken(final String refreshToken) {
+        if (!isValid(refreshToken)) {
+            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
+        }
+        String familyId = getClaims(refreshToken).get(FAMILY_CLAIM, String.class);
+        if (familyId == null) {
+            throw new AccessDeniedException(ErrorCode.ACCESS_DENIED);
+        }
+        refreshTokenStore.revoke(familyId);
+    }
+
     /**
      * Retrieves the authentication object from the provided JWT token.
      *
@@ -153,19 +183,47 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Retrieves the user ID from the provided JWT token.
+     * Retrieves the claims from the provided JWT token.
      *
      * @param token the JWT token
-     * @return the user ID
+     * @return the verified claims
      */
-    private String getId(final String token) {
+    private Claims getClaims(final String token) {
         return Jwts
                 .parser()
                 .verifyWith(key)
                 .build()
                 .parseSignedClaims(token)
-                .getPayload()
-                .get("id", String.class);
+                .getPayload();
+    }
+
+    /**
+     * Builds a signed refresh token belonging to the given token family.
+     *
+     * @param userId   the user ID
+     * @param username the username
+     * @param familyId the ID of the token family
+     * @param tokenId  the ID of the refresh token
+     * @return the generated JWT refresh token
+     */
+    private String buildRefreshToken(int userId, String username, String familyId, String tokenId) {
+        Claims claims = Jwts.claims()
+                .subject(username)
+                .id(tokenId)
+                .add("id", userId)
+                .add(FAMILY_CLAIM, familyId)
+                .build();
+        Instant validity = Instant.now()
+                .plus(getRefreshValidity());
+        return Jwts.builder()
+                .claims(claims)
+                .expiration(Date.from(validity))
+                .signWith(key)
+                .compact();
+    }
+
+    private Duration getRefreshValidity() {
+        return Duration.ofMillis(Long.parseLong(jwtProperties.getRefresh()));
     }
 
 }
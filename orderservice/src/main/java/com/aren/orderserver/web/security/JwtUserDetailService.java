@@ -4,12 +4,13 @@ import com.aren.orderserver.entities.User;
 import com.aren.orderserver.services.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class JwtUserDetailService implements UserDetailsService {
+public class JwtUserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService userService;
 
@@ -24,4 +25,17 @@ public class JwtUserDetailService implements UserDetailsService {
         User user = userService.getUserByUsername(username);
         return JwtEntityFactory.create(user);
     }
+
+    /**
+     * Stores a password hash produced with the current cost factor after a successful login.
+     *
+     * @param user        the authenticated user
+     * @param newPassword the new password hash
+     * @return UserDetails object carrying the new password hash
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User updated = userService.updatePassword(user.getUsername(), newPassword);
+        return JwtEntityFactory.create(updated);
+    }
 }
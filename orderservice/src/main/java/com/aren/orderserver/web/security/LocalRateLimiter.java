@@ -0,0 +1,95 @@
+package com.aren.orderserver.web.security;
+
+import com.aren.orderserver.web.security.properties.RateLimitProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LocalRateLimiter implements RateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<RateLimitProperties.Limit, TokenBucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime() - SWEEP_INTERVAL_NANOS);
+    private final int maxKeys;
+
+    public LocalRateLimiter(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes a token from the in-memory bucket of the key.
+     * When the number of buckets reaches the limit, full buckets are dropped, at most once a second, since recreating
+     * them is free. Buckets still in use are never dropped; while none can be freed, new keys share one overflow
+     * bucket per limit, so a flood of new callers can not reset the buckets of existing ones.
+     *
+     * @param key   the caller and route the bucket belongs to
+     * @param limit the capacity and refill rate of the bucket
+     * @return true if a token was available, false otherwise
+     */
+    @Override
+    public boolean tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep(now);
+            }
+            if (buckets.size() >= maxKeys) {
+                bucket = overflowBuckets.computeIfAbsent(limit, l -> newBucket(l, now));
+            } else {
+                bucket = buckets.computeIfAbsent(key, k -> newBucket(limit, now));
+            }
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+            buckets.values().removeIf(existing -> existing.isFull(now));
+        }
+    }
+
+    private static TokenBucket newBucket(RateLimitProperties.Limit limit, long now) {
+        return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+    }
+
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long timestamp;
+
+        private TokenBucket(int capacity, double refillPerSecond, long now) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000d;
+            this.tokens = capacity;
+            this.timestamp = now;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > timestamp) {
+                tokens = Math.min(capacity, tokens + (now - timestamp) * refillPerNano);
+                timestamp = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.aren.orderserver.web.security;
+
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.exceptions.ExceptionBody;
+import com.aren.orderserver.web.security.properties.RateLimitProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_ROUTE = "*";
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter rateLimited;
+    private final Counter shed;
+    private final byte[] rateLimitedBody;
+    private final byte[] shedBody;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           RateLimiter rateLimiter,
+                           MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper) {
+        RateLimitProperties.Admission admission = properties.getAdmission();
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = new ConcurrencyLimiter(
+                admission.getMaxConcurrent(), admission.getMinConcurrent(), admission.getLatencyTarget());
+        this.rateLimited = rejectedCounter(meterRegistry, "rate_limit");
+        this.shed = rejectedCounter(meterRegistry, "overload");
+        this.rateLimitedBody = body(objectMapper, ErrorCode.RATE_LIMITED);
+        this.shedBody = body(objectMapper, ErrorCode.SERVER_BUSY);
+        Gauge.builder("http.server.requests.admission.limit", concurrencyLimiter, ConcurrencyLimiter::getLimit)
+                .description("Maximum number of requests admitted concurrently")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.admission.in-flight", concurrencyLimiter, ConcurrencyLimiter::getInFlight)
+                .description("Number of admitted requests in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Skips the filter when rate limiting is disabled and for excluded paths such as the actuator endpoints.
+     *
+     * @param request the request object
+     * @return true if the request is not limited
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || matchesAny(properties.getExcludedPatterns(), getPath(request));
+    }
+
+    /**
+     * Rejects the request with 429 and a RATE_LIMITED body if the caller has used up the bucket of the route,
+     * or with 429 and a SERVER_BUSY body if the service is already running as many requests as it can
+     * while meeting its latency target.
+     * Both checks run before the request reaches a controller, so rejected requests hold no connection.
+     *
+     * @param request     the request object
+     * @param response    the response object
+     * @param filterChain the filter chain
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = getPath(request);
+        RateLimitProperties.Route route = findRoute(request.getMethod(), path);
+        RateLimitProperties.Limit limit = route != null ? route : properties.getDefaultLimit();
+        String key = getCaller(request) + ":" + (route != null ? route.getMethod() + " " + route.getPattern() : DEFAULT_ROUTE);
+        if (!rateLimiter.tryAcquire(key, limit)) {
+            rateLimited.increment();
+            reject(response, (long) Math.ceil(1 / limit.getRefillPerSecond()), rateLimitedBody);
+            return;
+        }
+        RateLimitProperties.Admission admission = properties.getAdmission();
+        if (!admission.isEnabled() || matchesAny(admission.getExcludedPatterns(), path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.increment();
+            reject(response, 1, shedBody);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Identifies the caller by user ID, or by address for unauthenticated requests such as logins.
+     *
+     * @param request the request object
+     * @return the caller part of the bucket key
+     */
+    private String getCaller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtEntity user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private RateLimitProperties.Route findRoute(String method, String path) {
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (route.getMethod().equalsIgnoreCase(method) && pathMatcher.match(route.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterSeconds, byte[] body) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(retryAfterSeconds, 1)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Serializes the body of a rejection once, since it is the same for every rejected request.
+     *
+     * @param objectMapper the application ObjectMapper
+     * @param code         the error code of the rejection
+     * @return the JSON body
+     */
+    private static byte[] body(ObjectMapper objectMapper, ErrorCode code) {
+        try {
+            return objectMapper.writeValueAsBytes(new ExceptionBody(code));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can not serialize the body of " + code, e);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("http.server.requests.rejected")
+                .description("Requests rejected before reaching a controller")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.aren.orderserver.web.security;
+
+import com.aren.orderserver.web.security.properties.RateLimitProperties;
+
+public interface RateLimiter {
+
+    /**
+     * Takes a token from the bucket of the key, refilling it first for the time passed since the last request.
+     *
+     * @param key   the caller and route the bucket belongs to
+     * @param limit the capacity and refill rate of the bucket
+     * @return true if a token was available, false if the request has to be rejected
+     */
+    boolean tryAcquire(String key, RateLimitProperties.Limit limit);
+
+}
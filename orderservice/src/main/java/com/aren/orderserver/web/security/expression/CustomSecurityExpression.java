@@ -33,6 +33,15 @@ public class CustomSecurityExpression {
         return hasRole(SecurityContextHolder.getContext().getAuthentication(), UserRole.PROCESSOR.name());
     }
 
+    /**
+     * Checks if the current user is allowed to create users on behalf of others.
+     *
+     * @return true if the user has the role of an admin, false otherwise
+     */
+    public boolean canManageUsers() {
+        return hasRole(SecurityContextHolder.getContext().getAuthentication(), UserRole.ADMIN.name());
+    }
+
     /**
      * Checks if the current user is allowed to get the details of a specific order.
      *
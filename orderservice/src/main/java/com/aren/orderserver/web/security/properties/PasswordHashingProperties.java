@@ -0,0 +1,21 @@
+package com.aren.orderserver.web.security.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+
+    private int strength = 10;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,100 @@
+package com.aren.orderserver.web.security.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Whether buckets are shared by all nodes through Redis instead of being kept per node.
+     */
+    private boolean distributed = false;
+
+    @Min(1)
+    private int maxKeys = 100_000;
+
+    @Valid
+    @NotNull
+    private Limit defaultLimit = new Limit();
+
+    @Valid
+    private List<Route> routes = new ArrayList<>();
+
+    private List<String> excludedPatterns = new ArrayList<>(List.of("/actuator/**"));
+
+    @Valid
+    @NotNull
+    private Admission admission = new Admission();
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        @Min(1)
+        private int capacity = 50;
+
+        @Positive
+        private double refillPerSecond = 25;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Route extends Limit {
+
+        @NotBlank
+        private String method;
+
+        @NotBlank
+        private String pattern;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+
+        private boolean enabled = true;
+
+        @Min(1)
+        private int maxConcurrent = 200;
+
+        @Min(1)
+        private int minConcurrent = 20;
+
+        @NotNull
+        private Duration latencyTarget = Duration.ofMillis(500);
+
+        /**
+         * Long-polling and streaming endpoints whose latency says nothing about the load.
+         */
+        private List<String> excludedPatterns = new ArrayList<>();
+
+        @AssertTrue(message = "min-concurrent must not exceed max-concurrent")
+        public boolean isMinWithinMax() {
+            return minConcurrent <= maxConcurrent;
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.aren.orderserver.web.serializers;
+
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes OrderDto and the users it references without reflection, producing the same JSON as the bean serializer.
+ * Dates carrying the "yyyy-MM-dd HH:mm" pattern of OrderDto are written digit by digit into a per-thread buffer;
+ * other patterns use a formatter built once per mapper, and mappers that ignore @JsonFormat get the regular date serializer.
+ */
+public class OrderDtoSerializer extends StdSerializer<OrderDto> implements ContextualSerializer {
+
+    static final String MINUTE_PATTERN = "yyyy-MM-dd HH:mm";
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_BY = new SerializedString("createdBy");
+    private static final SerializedString PROCESSED_BY = new SerializedString("processedBy");
+    private static final SerializedString CREATED_DATE = new SerializedString("createdDate");
+    private static final SerializedString UPDATED_DATE = new SerializedString("updatedDate");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString ROLE = new SerializedString("role");
+    private static final ThreadLocal<char[]> DATE_BUFFER = ThreadLocal.withInitial(() -> new char[MINUTE_PATTERN.length()]);
+
+    private final DateFormat createdDateFormat;
+    private final DateFormat updatedDateFormat;
+    private final JsonSerializer<Object> dateSerializer;
+    private final JsonSerializer<Object> roleSerializer;
+
+    public OrderDtoSerializer() {
+        this(null, null, null, null);
+    }
+
+    private OrderDtoSerializer(DateFormat createdDateFormat,
+                               DateFormat updatedDateFormat,
+                               JsonSerializer<Object> dateSerializer,
+                               JsonSerializer<Object> roleSerializer) {
+        super(OrderDto.class);
+        this.createdDateFormat = createdDateFormat;
+        this.updatedDateFormat = updatedDateFormat;
+        this.dateSerializer = dateSerializer;
+        this.roleSerializer = roleSerializer;
+    }
+
+    /**
+     * Resolves the date formats of OrderDto and the serializers of nested values once for the mapper.
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        BeanDescription description = provider.getConfig().introspect(provider.constructType(OrderDto.class));
+        return new OrderDtoSerializer(
+                findFormat(provider, description, CREATED_DATE.getValue()),
+                findFormat(provider, description, UPDATED_DATE.getValue()),
+                provider.findValueSerializer(OffsetDateTime.class),
+                provider.findValueSerializer(UserRole.class));
+    }
+
+    @Override
+    public void serialize(OrderDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        writeNumber(gen, value.getId());
+        writeString(gen, TITLE, value.getTitle());
+        writeString(gen, DESCRIPTION, value.getDescription());
+        writeString(gen, STATUS, value.getStatus());
+        writeUser(gen, provider, CREATED_BY, value.getCreatedBy());
+        writeUser(gen, provider, PROCESSED_BY, value.getProcessedBy());
+        writeDate(gen, provider, CREATED_DATE, value.getCreatedDate(), createdDateFormat);
+        writeDate(gen, provider, UPDATED_DATE, value.getUpdatedDate(), updatedDateFormat);
+        gen.writeEndObject();
+    }
+
+    private void writeUser(JsonGenerator gen, SerializerProvider provider, SerializableString name, User user) throws IOException {
+        gen.writeFieldName(name);
+        if (user == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(user);
+        gen.writeFieldName(ID);
+        writeNumber(gen, user.getId());
+        writeString(gen, USERNAME, user.getUsername());
+        writeString(gen, EMAIL, user.getEmail());
+        gen.writeFieldName(ROLE);
+        if (user.getRole() == null) {
+            gen.writeNull();
+        } else {
+            roleSerializer.serialize(user.getRole(), gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeDate(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+                           OffsetDateTime date, DateFormat format) throws IOException {
+        gen.writeFieldName(name);
+        if (date == null) {
+            gen.writeNull();
+        } else if (format == null) {
+            dateSerializer.serialize(date, gen, provider);
+        } else if (format.minutes() && date.getYear() >= 0 && date.getYear() <= 9999) {
+            char[] chars = DATE_BUFFER.get();
+            putDigits(chars, 0, date.getYear(), 4);
+            chars[4] = '-';
+            putDigits(chars, 5, date.getMonthValue(), 2);
+            chars[7] = '-';
+            putDigits(chars, 8, date.getDayOfMonth(), 2);
+            chars[10] = ' ';
+            putDigits(chars, 11, date.getHour(), 2);
+            chars[13] = ':';
+            putDigits(chars, 14, date.getMinute(), 2);
+            gen.writeString(chars, 0, chars.length);
+        } else {
+            gen.writeString(format.formatter().format(date));
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void putDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Looks up the @JsonFormat pattern of a date property the way the mapper sees it.
+     *
+     * @return the format, or null if the property has no pattern for this mapper
+     */
+    private static DateFormat findFormat(SerializerProvider provider, BeanDescription description, String name) {
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (!property.getName().equals(name) || property.getAccessor() == null) {
+                continue;
+            }
+            JsonFormat.Value format = provider.getAnnotationIntrospector().findFormat(property.getAccessor());
+            if (format == null || !format.hasPattern()) {
+                return null;
+            }
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format.getPattern(),
+                    format.hasLocale() ? format.getLocale() : provider.getLocale());
+            if (format.hasTimeZone()) {
+                formatter = formatter.withZone(format.getTimeZone().toZoneId());
+            } else if (provider.getConfig().hasExplicitTimeZone()
+                    && provider.isEnabled(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)) {
+                formatter = formatter.withZone(provider.getTimeZone().toZoneId());
+            }
+            return new DateFormat(formatter, MINUTE_PATTERN.equals(format.getPattern()) && formatter.getZone() == null);
+        }
+        return null;
+    }
+
+    private record DateFormat(DateTimeFormatter formatter, boolean minutes) {
+    }
+}
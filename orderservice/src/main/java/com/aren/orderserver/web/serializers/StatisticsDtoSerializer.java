@@ -0,0 +1,44 @@
+package com.aren.orderserver.web.serializers;
+
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes StatisticsDto without reflection, producing the same JSON as the bean serializer.
+ */
+public class StatisticsDtoSerializer extends StdSerializer<StatisticsDto> {
+
+    private static final SerializedString PROCESSED = new SerializedString("processed");
+    private static final SerializedString IN_PROCESS = new SerializedString("inProcess");
+    private static final SerializedString READY = new SerializedString("ready");
+    private static final SerializedString TOTAL = new SerializedString("total");
+
+    public StatisticsDtoSerializer() {
+        super(StatisticsDto.class);
+    }
+
+    @Override
+    public void serialize(StatisticsDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeCount(gen, PROCESSED, value.getProcessed());
+        writeCount(gen, IN_PROCESS, value.getInProcess());
+        writeCount(gen, READY, value.getReady());
+        writeCount(gen, TOTAL, value.getTotal());
+        gen.writeEndObject();
+    }
+
+    private static void writeCount(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.aren.orderserver.web.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * A Server-Sent Event with its payload already serialized, so that it is encoded once per broadcast
+ * rather than once per connection.
+ *
+ * @param id   the stream offset of the event, or null for events that cannot be resumed from
+ * @param name the event name, or null for a heartbeat comment
+ * @param data the JSON payload
+ */
+record OrderNotification(String id, String name, String data) {
+
+    static final OrderNotification HEARTBEAT = new OrderNotification(null, null, null);
+    static final OrderNotification RESYNC = new OrderNotification(null, "resync", "{}");
+
+    /**
+     * Compares stream offsets of the form {@code <milliseconds>-<sequence>}.
+     *
+     * @param offset the offset to compare with
+     * @return true if this notification was published after the given offset, or cannot be resumed from
+     */
+    boolean isAfter(String offset) {
+        if (id == null) {
+            return true;
+        }
+        int separator = id.indexOf('-');
+        int otherSeparator = offset.indexOf('-');
+        int millis = Long.compare(Long.parseLong(id.substring(0, separator)),
+                Long.parseLong(offset.substring(0, otherSeparator)));
+        if (millis != 0) {
+            return millis > 0;
+        }
+        return Long.parseLong(id.substring(separator + 1)) > Long.parseLong(offset.substring(otherSeparator + 1));
+    }
+
+    SseEmitter.SseEventBuilder toEvent() {
+        if (name == null) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+        return id == null ? event : event.id(id);
+    }
+}
@@ -0,0 +1,87 @@
+package com.aren.orderserver.web.sse;
+
+import com.aren.orderserver.configs.properties.OrderNotificationProperties;
+import com.aren.orderserver.services.OrderEventService;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Tails the order event stream on a single thread per node and hands every event to the hub,
+ * so Redis sees one reader per node however many processors are connected.
+ */
+@Component
+public class OrderNotificationFeed implements SmartLifecycle {
+
+    private final OrderEventService orderEventService;
+    private final OrderNotificationHub orderNotificationHub;
+    private final OrderNotificationProperties properties;
+    private final Counter errorCounter;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public OrderNotificationFeed(OrderEventService orderEventService,
+                                 OrderNotificationHub orderNotificationHub,
+                                 OrderNotificationProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.orderEventService = orderEventService;
+        this.orderNotificationHub = orderNotificationHub;
+        this.properties = properties;
+        this.errorCounter = meterRegistry.counter("orders.notifications.feed.errors");
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofVirtual().name("order-notification-feed").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Reads the stream from its live end, waiting for new events between reads.
+     * Failed reads are retried after a delay from the last delivered offset.
+     */
+    private void run() {
+        String offset = null;
+        while (running) {
+            try {
+                if (offset == null) {
+                    offset = orderEventService.getLatestOffset();
+                }
+                List<OrderEventDto> events = orderEventService.getEvents(
+                        offset, null, properties.getBatchSize(), properties.getPollWait());
+                for (OrderEventDto event : events) {
+                    orderNotificationHub.broadcast(event);
+                    offset = event.getOffset();
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                errorCounter.increment();
+                try {
+                    Thread.sleep(properties.getRetryDelay());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
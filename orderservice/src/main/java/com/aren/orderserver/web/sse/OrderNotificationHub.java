@@ -0,0 +1,152 @@
+package com.aren.orderserver.web.sse;
+
+import com.aren.orderserver.configs.properties.OrderNotificationProperties;
+import com.aren.orderserver.enums.OrderEventType;
+import com.aren.orderserver.exceptions.ErrorCode;
+import com.aren.orderserver.exceptions.SubscriptionRejectedException;
+import com.aren.orderserver.services.OrderEventService;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class OrderNotificationHub implements AutoCloseable {
+
+    private static final String READY = "ready";
+    private static final String CLAIMED = "claimed";
+
+    private final OrderEventService orderEventService;
+    private final OrderNotificationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<OrderNotificationSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections;
+    private final Counter resyncCounter;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("order-notifications-", 0).factory());
+
+    public OrderNotificationHub(OrderEventService orderEventService,
+                                OrderNotificationProperties properties,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.orderEventService = orderEventService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.connections = meterRegistry.gauge("orders.notifications.connections", new AtomicInteger());
+        this.resyncCounter = meterRegistry.counter("orders.notifications.resyncs");
+    }
+
+    /**
+     * Opens a notification stream for a processor.
+     * A reconnecting client passes the ID of the last event it received and first gets the events it missed.
+     *
+     * @param lastEventId The ID of the last event received before reconnecting, or null
+     * @return SseEmitter the notifications are written to
+     * @throws SubscriptionRejectedException if the node already serves the maximum number of connections
+     * @throws IllegalStateException         if the last event ID is malformed
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            throw new SubscriptionRejectedException(ErrorCode.TOO_MANY_SUBSCRIBERS);
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        OrderNotificationSubscriber subscriber = new OrderNotificationSubscriber(
+                emitter, properties.getQueueCapacity(), executor, this::unsubscribe, lastEventId != null);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        // Registered before the replay reads the stream, so events broadcast meanwhile are held back, not lost.
+        subscribers.add(subscriber);
+        try {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        } catch (RuntimeException e) {
+            subscriber.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * Fans an order event out to every connected processor. Events that do not change order availability are skipped.
+     *
+     * @param event The order event
+     */
+    public void broadcast(OrderEventDto event) {
+        OrderNotification notification = toNotification(event);
+        if (notification == null) {
+            return;
+        }
+        for (OrderNotificationSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(notification)) {
+                resyncCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Sends a heartbeat to idle connections so that closed ones are noticed and released.
+     */
+    @Scheduled(fixedDelayString = "${orders.notifications.heartbeat-interval:15000}")
+    public void heartbeat() {
+        subscribers.forEach(OrderNotificationSubscriber::heartbeat);
+    }
+
+    /**
+     * Completes every open connection and stops the delivery threads.
+     */
+    @Override
+    public void close() {
+        subscribers.forEach(OrderNotificationSubscriber::close);
+        executor.shutdownNow();
+    }
+
+    private void unsubscribe(OrderNotificationSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        connections.decrementAndGet();
+    }
+
+    private void replay(OrderNotificationSubscriber subscriber, String lastEventId) {
+        List<OrderEventDto> missed = orderEventService.getEvents(
+                lastEventId, null, properties.getQueueCapacity() + 1, Duration.ZERO);
+        String lastReplayedOffset = lastEventId;
+        for (OrderEventDto event : missed) {
+            lastReplayedOffset = event.getOffset();
+            OrderNotification notification = toNotification(event);
+            if (notification != null && !subscriber.replay(notification)) {
+                resyncCounter.increment();
+                break;
+            }
+        }
+        if (!subscriber.endReplay(lastReplayedOffset)) {
+            resyncCounter.increment();
+        }
+    }
+
+    @SneakyThrows
+    private OrderNotification toNotification(OrderEventDto event) {
+        String name = switch (OrderEventType.valueOf(event.getType())) {
+            case PLACED, RETURNED_TO_READY -> READY;
+            case PROCESSING_STARTED -> CLAIMED;
+            default -> null;
+        };
+        if (name == null) {
+            return null;
+        }
+        return new OrderNotification(event.getOffset(), name, objectMapper.writeValueAsString(event));
+    }
+}
@@ -0,0 +1,180 @@
+package com.aren.orderserver.web.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One SSE connection with its own bounded queue. Broadcasting only enqueues; a task on the shared executor
+ * drains the queue to the connection, so a slow client blocks nothing but its own writes.
+ * When the queue overflows its pending notifications are replaced by a single resync event.
+ * A subscriber created for a reconnecting client holds live notifications back until the missed events are replayed,
+ * then delivers those the replay did not already cover.
+ */
+class OrderNotificationSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<OrderNotification> queue;
+    private final Executor executor;
+    private final Consumer<OrderNotificationSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final int queueCapacity;
+    private List<OrderNotification> heldBack;
+    private boolean heldBackOverflowed;
+
+    OrderNotificationSubscriber(SseEmitter emitter,
+                                int queueCapacity,
+                                Executor executor,
+                                Consumer<OrderNotificationSubscriber> onClose) {
+        this(emitter, queueCapacity, executor, onClose, false);
+    }
+
+    OrderNotificationSubscriber(SseEmitter emitter,
+                                int queueCapacity,
+                                Executor executor,
+                                Consumer<OrderNotificationSubscriber> onClose,
+                                boolean replaying) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = executor;
+        this.onClose = onClose;
+        this.queueCapacity = queueCapacity;
+        this.heldBack = replaying ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Enqueues a notification for delivery without blocking. While missed events are being replayed
+     * the notification is held back instead.
+     *
+     * @param notification the notification
+     * @return false if the queue was full and the client has to resync, true otherwise
+     */
+    boolean offer(OrderNotification notification) {
+        if (closed.get()) {
+            return true;
+        }
+        synchronized (this) {
+            if (heldBack != null) {
+                if (notification.name() == null) {
+                    return true;
+                }
+                if (heldBack.size() < queueCapacity) {
+                    heldBack.add(notification);
+                    return true;
+                }
+                heldBack.clear();
+                heldBackOverflowed = true;
+                return false;
+            }
+        }
+        return enqueue(notification);
+    }
+
+    /**
+     * Enqueues a missed event read from the stream, bypassing the notifications held back during the replay.
+     *
+     * @param notification the missed notification
+     * @return false if the queue was full and the client has to resync, true otherwise
+     */
+    boolean replay(OrderNotification notification) {
+        return closed.get() || enqueue(notification);
+    }
+
+    /**
+     * Ends the replay and delivers the notifications held back during it, skipping those the replay already sent.
+     *
+     * @param lastReplayedOffset the offset of the last event the replay read, or null if it read none
+     * @return false if the held back notifications overflowed and the client has to resync, true otherwise
+     */
+    synchronized boolean endReplay(String lastReplayedOffset) {
+        if (heldBack == null) {
+            return true;
+        }
+        List<OrderNotification> notifications = heldBack;
+        heldBack = null;
+        if (heldBackOverflowed) {
+            enqueue(OrderNotification.RESYNC);
+            return false;
+        }
+        boolean accepted = true;
+        for (OrderNotification notification : notifications) {
+            if (lastReplayedOffset == null || notification.isAfter(lastReplayedOffset)) {
+                accepted &= enqueue(notification);
+            }
+        }
+        return accepted;
+    }
+
+    private boolean enqueue(OrderNotification notification) {
+        if (closed.get()) {
+            return true;
+        }
+        boolean accepted = queue.offer(notification);
+        if (!accepted) {
+            queue.clear();
+            queue.offer(OrderNotification.RESYNC);
+        }
+        schedule();
+        return accepted;
+    }
+
+    /**
+     * Enqueues a heartbeat if nothing else is waiting to be sent, so dead connections are detected.
+     */
+    void heartbeat() {
+        if (queue.isEmpty()) {
+            offer(OrderNotification.HEARTBEAT);
+        }
+    }
+
+    /**
+     * Completes the connection and releases it from the hub. Safe to call more than once.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            emitter.complete();
+            onClose.accept(this);
+        }
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    private void schedule() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            OrderNotification notification;
+            while (!closed.get() && (notification = queue.poll()) != null) {
+                emitter.send(notification.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (!closed.get() && !queue.isEmpty()) {
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.aren.orderserver.web.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final Deque<SpanData> spans = new ArrayDeque<>();
+    private final int capacity;
+
+    /**
+     * @param capacity the number of spans kept, at least 1
+     */
+    public InMemorySpanExporter(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Span capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Keeps the finished spans, dropping the oldest ones once the capacity is reached.
+     *
+     * @param spans the finished spans
+     * @return a completed result
+     */
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            if (this.spans.size() == capacity) {
+                this.spans.removeFirst();
+            }
+            this.spans.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Returns the spans exported so far, oldest first.
+     *
+     * @return the finished spans
+     */
+    public synchronized List<SpanData> getFinishedSpans() {
+        return List.copyOf(spans);
+    }
+
+    /**
+     * Drops every span exported so far.
+     */
+    public synchronized void reset() {
+        spans.clear();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        reset();
+        return CompletableResultCode.ofSuccess();
+    }
+}
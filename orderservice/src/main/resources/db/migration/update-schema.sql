@@ -1,15 +1,28 @@
+-- Creates the schema on an empty database. A database created with the original schema is brought to this one
+-- with upgrade-from-baseline.sql.
+
 CREATE TABLE orders
 (
     id           INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     title        VARCHAR(255),
     description  VARCHAR(255),
-    status       VARCHAR(255),
+    status       SMALLINT,
     created_by   INTEGER,
     updated_by   INTEGER,
     created_date TIMESTAMP WITHOUT TIME ZONE,
     updated_date TIMESTAMP WITHOUT TIME ZONE,
-    CONSTRAINT pk_orders PRIMARY KEY (id)
-);
+    version      BIGINT DEFAULT 0 NOT NULL,
+    archived     BOOLEAN DEFAULT FALSE NOT NULL
+) PARTITION BY LIST (archived);
+
+-- Orders still being worked on, plus processed orders not yet archived. Hot-path queries filter on archived = FALSE
+-- so only this partition and its indexes are touched.
+-- A key on orders would have to include created_date, the partition key of the archive, so every leaf partition
+-- has its own key on id instead; IDs are unique across partitions because they all come from the orders identity.
+CREATE TABLE orders_hot PARTITION OF orders (CONSTRAINT pk_orders_hot PRIMARY KEY (id)) FOR VALUES IN (FALSE);
+
+-- Archived processed orders, split by month of creation. Monthly partitions are created by archive_processed_orders.
+CREATE TABLE orders_archive PARTITION OF orders FOR VALUES IN (TRUE) PARTITION BY RANGE (created_date);
 
 CREATE TABLE users
 (
@@ -17,12 +30,93 @@ CREATE TABLE users
     username VARCHAR(255),
     password VARCHAR(255),
     email    VARCHAR(255),
-    role     VARCHAR(255),
-    CONSTRAINT pk_users PRIMARY KEY (id)
+    role     SMALLINT,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uq_users_username UNIQUE (username),
+    CONSTRAINT uq_users_email UNIQUE (email)
+);
+
+CREATE TABLE order_events
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    order_id     INTEGER,
+    type         VARCHAR(32),
+    status       SMALLINT,
+    user_id      INTEGER,
+    created_date TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_order_events PRIMARY KEY (id)
 );
 
+-- Number of orders moved to orders_archive, kept by archive_processed_orders so that statistics never scan the archive.
+CREATE TABLE order_archive_stats
+(
+    id       SMALLINT DEFAULT 1 NOT NULL,
+    archived BIGINT   DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_order_archive_stats PRIMARY KEY (id),
+    CONSTRAINT ck_order_archive_stats_single_row CHECK (id = 1)
+);
+
+INSERT INTO order_archive_stats (id, archived)
+VALUES (1, 0);
+
 ALTER TABLE orders
     ADD CONSTRAINT FK_ORDERS_ON_CREATED_BY FOREIGN KEY (created_by) REFERENCES users (id);
 
 ALTER TABLE orders
-    ADD CONSTRAINT FK_ORDERS_ON_UPDATED_BY FOREIGN KEY (updated_by) REFERENCES users (id);
\ No newline at end of file
+    ADD CONSTRAINT FK_ORDERS_ON_UPDATED_BY FOREIGN KEY (updated_by) REFERENCES users (id);
+
+CREATE INDEX idx_orders_hot_status ON orders_hot (status);
+
+CREATE INDEX idx_orders_hot_created_by ON orders_hot (created_by);
+
+CREATE INDEX idx_orders_hot_processed ON orders_hot (updated_date) WHERE status = 2;
+
+-- Moves up to batch_size orders with the given status last updated before the cutoff into the archive,
+-- creating the monthly archive partitions they need, and adds them to order_archive_stats. Returns the IDs of the orders moved.
+CREATE OR REPLACE FUNCTION archive_processed_orders(cutoff TIMESTAMP, processed SMALLINT, batch_size INTEGER)
+    RETURNS SETOF INTEGER AS
+$$
+DECLARE
+    ids       INTEGER[];
+    month     DATE;
+    partition TEXT;
+BEGIN
+    SELECT array_agg(id)
+    INTO ids
+    FROM (SELECT id
+          FROM orders_hot
+          WHERE status = processed
+            AND updated_date < cutoff
+            AND created_date IS NOT NULL
+          ORDER BY updated_date
+          LIMIT batch_size FOR UPDATE SKIP LOCKED) batch;
+
+    IF ids IS NULL THEN
+        RETURN;
+    END IF;
+
+    FOR month IN SELECT DISTINCT date_trunc('month', created_date)::DATE FROM orders_hot WHERE id = ANY (ids)
+        LOOP
+            partition := 'orders_archive_' || to_char(month, 'YYYYMM');
+            IF to_regclass(partition) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF orders_archive (PRIMARY KEY (id)) FOR VALUES FROM (%L) TO (%L)',
+                               partition, month, (month + INTERVAL '1 month')::DATE);
+            END IF;
+        END LOOP;
+
+    RETURN QUERY
+        WITH moved AS (
+            UPDATE orders
+            SET archived = TRUE,
+                version  = version + 1
+            WHERE archived = FALSE
+              AND id = ANY (ids)
+            RETURNING id),
+             counted AS (
+                 UPDATE order_archive_stats
+                 SET archived = archived + (SELECT COUNT(*) FROM moved)
+                 WHERE id = 1)
+        SELECT moved.id
+        FROM moved;
+END;
+$$ LANGUAGE plpgsql;
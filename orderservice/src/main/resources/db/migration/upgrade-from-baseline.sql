@@ -0,0 +1,161 @@
+-- Upgrades a database created with the original schema (status and role stored as names, unpartitioned orders,
+-- no order_events) to update-schema.sql, keeping its users and orders. Runs in one transaction and stops without
+-- changing anything if a status or role is not known, or if usernames or emails are not unique.
+-- Stop the application before running it: orders is recreated, so it is locked for the duration of the copy.
+
+BEGIN;
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1 FROM users WHERE role IS NOT NULL AND role NOT IN ('POSTER', 'PROCESSOR', 'ADMIN')) THEN
+            RAISE EXCEPTION 'users.role holds values other than POSTER, PROCESSOR and ADMIN';
+        END IF;
+        IF EXISTS (SELECT 1 FROM orders WHERE status IS NOT NULL AND status NOT IN ('READY', 'IN_PROCESS', 'PROCESSED')) THEN
+            RAISE EXCEPTION 'orders.status holds values other than READY, IN_PROCESS and PROCESSED';
+        END IF;
+    END
+$$;
+
+-- Codes of UserRole and OrderStatus.
+ALTER TABLE users
+    ALTER COLUMN role TYPE SMALLINT USING CASE role
+                                              WHEN 'POSTER' THEN 0
+                                              WHEN 'PROCESSOR' THEN 1
+                                              WHEN 'ADMIN' THEN 2 END;
+
+ALTER TABLE users
+    ADD CONSTRAINT uq_users_username UNIQUE (username);
+
+ALTER TABLE users
+    ADD CONSTRAINT uq_users_email UNIQUE (email);
+
+-- A table can not be turned into a partitioned one in place, so the orders are copied into a new table.
+ALTER TABLE orders
+    RENAME TO orders_original;
+
+CREATE TABLE orders
+(
+    id           INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    title        VARCHAR(255),
+    description  VARCHAR(255),
+    status       SMALLINT,
+    created_by   INTEGER,
+    updated_by   INTEGER,
+    created_date TIMESTAMP WITHOUT TIME ZONE,
+    updated_date TIMESTAMP WITHOUT TIME ZONE,
+    version      BIGINT DEFAULT 0 NOT NULL,
+    archived     BOOLEAN DEFAULT FALSE NOT NULL
+) PARTITION BY LIST (archived);
+
+CREATE TABLE orders_hot PARTITION OF orders (CONSTRAINT pk_orders_hot PRIMARY KEY (id)) FOR VALUES IN (FALSE);
+
+CREATE TABLE orders_archive PARTITION OF orders FOR VALUES IN (TRUE) PARTITION BY RANGE (created_date);
+
+-- Every existing order starts in the hot partition; archive_processed_orders moves the old processed ones.
+INSERT INTO orders (id, title, description, status, created_by, updated_by, created_date, updated_date)
+SELECT id,
+       title,
+       description,
+       CASE status
+           WHEN 'READY' THEN 0
+           WHEN 'IN_PROCESS' THEN 1
+           WHEN 'PROCESSED' THEN 2 END,
+       created_by,
+       updated_by,
+       created_date,
+       updated_date
+FROM orders_original;
+
+SELECT setval(pg_get_serial_sequence('orders', 'id'), COALESCE(MAX(id), 0) + 1, FALSE)
+FROM orders;
+
+DROP TABLE orders_original;
+
+ALTER TABLE orders
+    ADD CONSTRAINT FK_ORDERS_ON_CREATED_BY FOREIGN KEY (created_by) REFERENCES users (id);
+
+ALTER TABLE orders
+    ADD CONSTRAINT FK_ORDERS_ON_UPDATED_BY FOREIGN KEY (updated_by) REFERENCES users (id);
+
+CREATE INDEX idx_orders_hot_status ON orders_hot (status);
+
+CREATE INDEX idx_orders_hot_created_by ON orders_hot (created_by);
+
+CREATE INDEX idx_orders_hot_processed ON orders_hot (updated_date) WHERE status = 2;
+
+CREATE TABLE order_events
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    order_id     INTEGER,
+    type         VARCHAR(32),
+    status       SMALLINT,
+    user_id      INTEGER,
+    created_date TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_order_events PRIMARY KEY (id)
+);
+
+CREATE TABLE order_archive_stats
+(
+    id       SMALLINT DEFAULT 1 NOT NULL,
+    archived BIGINT   DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_order_archive_stats PRIMARY KEY (id),
+    CONSTRAINT ck_order_archive_stats_single_row CHECK (id = 1)
+);
+
+INSERT INTO order_archive_stats (id, archived)
+SELECT 1, COUNT(*)
+FROM orders
+WHERE archived = TRUE;
+
+-- Moves up to batch_size orders with the given status last updated before the cutoff into the archive,
+-- creating the monthly archive partitions they need, and adds them to order_archive_stats. Returns the IDs of the orders moved.
+CREATE OR REPLACE FUNCTION archive_processed_orders(cutoff TIMESTAMP, processed SMALLINT, batch_size INTEGER)
+    RETURNS SETOF INTEGER AS
+$$
+DECLARE
+    ids       INTEGER[];
+    month     DATE;
+    partition TEXT;
+BEGIN
+    SELECT array_agg(id)
+    INTO ids
+    FROM (SELECT id
+          FROM orders_hot
+          WHERE status = processed
+            AND updated_date < cutoff
+            AND created_date IS NOT NULL
+          ORDER BY updated_date
+          LIMIT batch_size FOR UPDATE SKIP LOCKED) batch;
+
+    IF ids IS NULL THEN
+        RETURN;
+    END IF;
+
+    FOR month IN SELECT DISTINCT date_trunc('month', created_date)::DATE FROM orders_hot WHERE id = ANY (ids)
+        LOOP
+            partition := 'orders_archive_' || to_char(month, 'YYYYMM');
+            IF to_regclass(partition) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF orders_archive (PRIMARY KEY (id)) FOR VALUES FROM (%L) TO (%L)',
+                               partition, month, (month + INTERVAL '1 month')::DATE);
+            END IF;
+        END LOOP;
+
+    RETURN QUERY
+        WITH moved AS (
+            UPDATE orders
+            SET archived = TRUE,
+                version  = version + 1
+            WHERE archived = FALSE
+              AND id = ANY (ids)
+            RETURNING id),
+             counted AS (
+                 UPDATE order_archive_stats
+                 SET archived = archived + (SELECT COUNT(*) FROM moved)
+                 WHERE id = 1)
+        SELECT moved.id
+        FROM moved;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMIT;
@@ -0,0 +1,223 @@
+package com.aren.orderserver.smoketest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Requests touching every part of the service that depends on reflection, proxies or serialization at runtime:
+ * validation, JWT issuing and parsing, the JPA entities and mappers, the Redis cache, Redisson locks and scripts,
+ * the idempotency store, content negotiation, the reactive statistics and the error bodies.
+ * Users are named after the run, so several targets can be checked against the same database.
+ */
+public class SmokeChecks {
+
+    private static final String PASSWORD = "smoke-test-password";
+    private static final String MINUTE_DATE = "\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}";
+    private static final int MISSING_ORDER_ID = Integer.MAX_VALUE;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final String run;
+    private final List<CheckResult> results = new ArrayList<>();
+
+    private String posterToken;
+    private String processorToken;
+    private String processorRefreshToken;
+    private int orderId;
+
+    public SmokeChecks(HttpClient client, ObjectMapper objectMapper, URI baseUri, String run) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.run = run;
+    }
+
+    /**
+     * Runs the checks in order. A failed check does not stop the run, the checks depending on it fail as well.
+     *
+     * @return the result of every check
+     */
+    public List<CheckResult> run() {
+        check("register poster", () -> register("poster", "POSTER"));
+        check("register processor", () -> register("processor", "PROCESSOR"));
+        check("reject invalid email", () -> {
+            String body = "{\"username\":\"invalid-" + run + "\",\"password\":\"" + PASSWORD
+                    + "\",\"email\":\"invalid-" + run + "\",\"role\":\"POSTER\"}";
+            expectStatus(send(json("/api/v1/auth/register", body)), 400);
+            return "400";
+        });
+        check("login poster", () -> {
+            posterToken = login("poster").path("accessToken").asText();
+            return "access token of " + posterToken.length() + " chars";
+        });
+        check("place order", () -> {
+            JsonNode order = placeOrder("smoke-" + run);
+            orderId = order.path("id").asInt();
+            require(orderId > 0, "no order ID in " + order);
+            require(order.path("createdDate").asText().matches(MINUTE_DATE), "unexpected date in " + order);
+            return "order " + orderId;
+        });
+        check("replay idempotent order", () -> {
+            int replayed = placeOrder("smoke-" + run).path("id").asInt();
+            require(replayed == orderId, "replay placed order " + replayed + " instead of returning " + orderId);
+            return "order " + replayed;
+        });
+        check("get cached order", () -> {
+            JsonNode first = body(expectStatus(send(authorized(get("/api/v1/orders/" + orderId), posterToken)), 200));
+            JsonNode second = body(expectStatus(send(authorized(get("/api/v1/orders/" + orderId), posterToken)), 200));
+            require(first.equals(second), "cached order " + second + " differs from " + first);
+            return first.path("title").asText();
+        });
+        check("get order as CBOR", () -> {
+            HttpRequest request = HttpRequest.newBuilder(authorized(get("/api/v1/orders/" + orderId), posterToken),
+                            (name, value) -> true)
+                    .header("Accept", "application/cbor")
+                    .build();
+            HttpResponse<byte[]> response = expectStatus(send(request), 200);
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            require(contentType.startsWith("application/cbor"), "Content-Type " + contentType);
+            return response.body().length + " bytes";
+        });
+        check("login processor", () -> {
+            JsonNode tokens = login("processor");
+            processorToken = tokens.path("accessToken").asText();
+            processorRefreshToken = tokens.path("refreshToken").asText();
+            return "access token of " + processorToken.length() + " chars";
+        });
+        check("process order", () -> {
+            expectStatus(send(authorized(put("/api/v1/orders/" + orderId + "/start"), processorToken)), 200);
+            JsonNode order = body(expectStatus(
+                    send(authorized(put("/api/v1/orders/" + orderId + "/complete"), processorToken)), 200));
+            return order.path("status").asText();
+        });
+        check("statistics", () -> statistics("/api/v1/orders/stat"));
+        check("reactive statistics", () -> statistics("/api/v1/orders/reactive/stat"));
+        check("refresh token", () -> {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/refresh"))
+                    .header("Content-Type", "text/plain")
+                    .POST(HttpRequest.BodyPublishers.ofString(processorRefreshToken))
+                    .build();
+            JsonNode tokens = body(expectStatus(send(request), 200));
+            require(!tokens.path("accessToken").asText().isEmpty(), "no access token in " + tokens);
+            return "new access token";
+        });
+        check("missing order", () -> {
+            HttpResponse<byte[]> response = expectStatus(
+                    send(authorized(get("/api/v1/orders/" + MISSING_ORDER_ID), processorToken)), 404);
+            String code = body(response).path("code").asText();
+            require(code.equals("ORDER_NOT_FOUND"), "error code " + code);
+            return code;
+        });
+        return results;
+    }
+
+    private String register(String role, String expectedRole) throws IOException, InterruptedException {
+        String body = "{\"username\":\"" + role + "-" + run + "\",\"password\":\"" + PASSWORD
+                + "\",\"email\":\"" + role + "-" + run + "@smoke.test\",\"role\":\"" + expectedRole + "\"}";
+        JsonNode user = body(expectStatus(send(json("/api/v1/auth/register", body)), 200));
+        require(user.path("role").asText().equals(expectedRole), "unexpected role in " + user);
+        require(!user.has("password"), "password returned in " + user);
+        return "user " + user.path("id").asInt();
+    }
+
+    private JsonNode login(String role) throws IOException, InterruptedException {
+        String body = "{\"username\":\"" + role + "-" + run + "\",\"password\":\"" + PASSWORD + "\"}";
+        return body(expectStatus(send(json("/api/v1/auth/login", body)), 200));
+    }
+
+    private JsonNode placeOrder(String idempotencyKey) throws IOException, InterruptedException {
+        String body = "{\"title\":\"Smoke test order\",\"description\":\"Placed by the smoke test " + run + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(authorized(json("/api/v1/orders/", body), posterToken),
+                        (name, value) -> true)
+                .header("Idempotency-Key", idempotencyKey)
+                .build();
+        return body(expectStatus(send(request), 200));
+    }
+
+    private String statistics(String path) throws IOException, InterruptedException {
+        JsonNode statistics = body(expectStatus(send(authorized(get(path), processorToken)), 200));
+        require(statistics.path("total").asLong() > 0, "no orders counted in " + statistics);
+        return statistics.toString();
+    }
+
+    private void check(String name, Check check) {
+        try {
+            results.add(new CheckResult(name, true, check.run()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            results.add(new CheckResult(name, false, "interrupted"));
+        } catch (Exception | AssertionError e) {
+            results.add(new CheckResult(name, false, e.getClass().getSimpleName() + ": " + e.getMessage()));
+        }
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpResponse<byte[]> expectStatus(HttpResponse<byte[]> response, int status) {
+        require(response.statusCode() == status, response.request().method() + " " + response.uri().getPath()
+                + " returned " + response.statusCode() + " " + new String(response.body()));
+        return response;
+    }
+
+    private JsonNode body(HttpResponse<byte[]> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private HttpRequest json(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest put(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static HttpRequest authorized(HttpRequest request, String accessToken) {
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .header("Authorization", "Bearer " + accessToken)
+                .build();
+    }
+
+    /**
+     * The outcome of one check.
+     *
+     * @param name   the check name
+     * @param passed whether the check passed
+     * @param detail what the check observed, or why it failed
+     */
+    public record CheckResult(String name, boolean passed, String detail) {
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        String run() throws Exception;
+    }
+
+}
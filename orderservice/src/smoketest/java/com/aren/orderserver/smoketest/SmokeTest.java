@@ -0,0 +1,280 @@
+package com.aren.orderserver.smoketest;
+
+import com.aren.orderserver.smoketest.SmokeChecks.CheckResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the order service builds one after another against the same Postgres and Redis, runs {@link SmokeChecks}
+ * on each and compares how long they take to become healthy and how much memory they hold.
+ * <p>
+ * Every build runs with the prod profile its AOT code was generated for; the jar additionally with AOT enabled,
+ * as in the Docker image. Startup is measured from launching the process to the first healthy response, so it
+ * includes JVM startup. Memory is the resident set size read from /proc, once healthy and after the checks.
+ * <p>
+ * Postgres and Redis are started with Testcontainers unless {@code smoketest.postgres.url} and
+ * {@code smoketest.redis.host} point at running instances; the schema of an existing database is only recreated
+ * with {@code smoketest.reset-schema=true}. See {@link SmokeTestSettings} for the other knobs.
+ */
+public class SmokeTest {
+
+    private static final long POLL_INTERVAL_MILLIS = 10;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        SmokeTestSettings settings = SmokeTestSettings.fromSystemProperties();
+        Path reportDir = Files.createDirectories(Path.of(settings.reportDir()));
+
+        PostgreSQLContainer<?> postgres = null;
+        GenericContainer<?> redis = null;
+        List<TargetResult> results = new ArrayList<>();
+        try {
+            String jdbcUrl = settings.postgresUrl();
+            String dbUser = settings.postgresUser();
+            String dbPassword = settings.postgresPassword();
+            if (jdbcUrl == null) {
+                postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+                postgres.start();
+                jdbcUrl = postgres.getJdbcUrl();
+                dbUser = postgres.getUsername();
+                dbPassword = postgres.getPassword();
+            }
+            String redisHost = settings.redisHost();
+            int redisPort = settings.redisPort();
+            if (redisHost == null) {
+                redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+                redis.start();
+                redisHost = redis.getHost();
+                redisPort = redis.getMappedPort(6379);
+            }
+            if (postgres == null && !settings.resetSchema()) {
+                throw new IllegalStateException("The smoke test drops the users, orders and order_events tables of "
+                        + jdbcUrl + "; set smoketest.reset-schema=true to allow it on an existing database");
+            }
+            createSchema(jdbcUrl, dbUser, dbPassword, Path.of(settings.schema()));
+
+            List<String> applicationArguments = List.of(
+                    "--spring.profiles.active=prod",
+                    "--spring.datasource.url=" + jdbcUrl,
+                    "--spring.datasource.username=" + dbUser,
+                    "--spring.datasource.password=" + dbPassword,
+                    "--spring.r2dbc.url=" + jdbcUrl.replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""),
+                    "--spring.r2dbc.username=" + dbUser,
+                    "--spring.r2dbc.password=" + dbPassword,
+                    "--spring.data.redis.host=" + redisHost,
+                    "--spring.data.redis.port=" + redisPort);
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(1))
+                    .build()) {
+                for (String target : settings.targets()) {
+                    results.add(runTarget(settings, target, applicationArguments, client, reportDir));
+                }
+            }
+        } finally {
+            if (redis != null) {
+                redis.stop();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+
+        String summary = summarize(results);
+        System.out.print(summary);
+        Files.writeString(reportDir.resolve("summary.txt"), summary);
+        if (!results.stream().allMatch(TargetResult::passed)) {
+            System.exit(1);
+        }
+    }
+
+    private static TargetResult runTarget(SmokeTestSettings settings,
+                                          String target,
+                                          List<String> applicationArguments,
+                                          HttpClient client,
+                                          Path reportDir) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(command(settings, target));
+        command.addAll(applicationArguments);
+        command.add("--server.port=" + port);
+        Path log = reportDir.resolve(target + ".log");
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        System.out.printf("Starting %s, logging to %s%n", target, log);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            String failure = awaitHealthy(process, client, baseUri, start + settings.startupTimeout().toNanos());
+            if (failure != null) {
+                return TargetResult.failedToStart(target, failure + ", see " + log);
+            }
+            Duration startup = Duration.ofNanos(System.nanoTime() - start);
+            long readyRss = residentKib(process.pid(), "VmRSS");
+
+            List<CheckResult> checks = new SmokeChecks(client, new ObjectMapper(), baseUri,
+                    target + "-" + Long.toString(System.currentTimeMillis(), 36)).run();
+            return new TargetResult(target, startup, readyRss, residentKib(process.pid(), "VmRSS"),
+                    residentKib(process.pid(), "VmHWM"), checks, null);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static List<String> command(SmokeTestSettings settings, String target) {
+        return switch (target) {
+            case "native" -> List.of(settings.nativeImage());
+            case "jvm" -> {
+                List<String> command = new ArrayList<>();
+                command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+                command.addAll(settings.jvmArgs());
+                command.add("-Dspring.aot.enabled=true");
+                command.add("-jar");
+                command.add(settings.jar());
+                yield command;
+            }
+            default -> throw new IllegalArgumentException("Unknown target " + target + ", expected native or jvm");
+        };
+    }
+
+    /**
+     * Polls the health endpoint until it reports the application up.
+     *
+     * @return null once healthy, otherwise why the application never got there
+     */
+    private static String awaitHealthy(Process process, HttpClient client, URI baseUri, long deadline)
+            throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                return "exited with " + process.exitValue();
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return null;
+                }
+            } catch (IOException e) {
+                // Not listening yet.
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        return "not healthy in time";
+    }
+
+    /**
+     * Reads a memory figure of a process from /proc/[pid]/status.
+     *
+     * @param field VmRSS for the current resident set size, VmHWM for its peak
+     * @return the size in KiB, or -1 if it is not available on this system
+     */
+    private static long residentKib(long pid, String field) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith(field + ":")) {
+                    return Long.parseLong(line.substring(field.length() + 1).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process is gone.
+        }
+        return -1;
+    }
+
+    private static void createSchema(String url, String username, String password, Path schema)
+            throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS order_archive_stats, order_events, orders, users CASCADE");
+            statement.execute(Files.readString(schema));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String summarize(List<TargetResult> results) {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%n%-8s %12s %12s %12s %12s %8s%n",
+                "target", "startup", "RSS ready", "RSS after", "peak RSS", "checks"));
+        for (TargetResult result : results) {
+            if (result.startupFailure() != null) {
+                summary.append(String.format(Locale.ROOT, "%-8s did not start: %s%n",
+                        result.target(), result.startupFailure()));
+                continue;
+            }
+            long passed = result.checks().stream().filter(CheckResult::passed).count();
+            summary.append(String.format(Locale.ROOT, "%-8s %10d ms %12s %12s %12s %5d/%d%n",
+                    result.target(), result.startup().toMillis(), mib(result.readyRssKib()),
+                    mib(result.afterChecksRssKib()), mib(result.peakRssKib()), passed, result.checks().size()));
+        }
+        for (TargetResult result : results) {
+            for (CheckResult check : result.checks()) {
+                if (!check.passed()) {
+                    summary.append(String.format(Locale.ROOT, "%s: %s failed: %s%n",
+                            result.target(), check.name(), check.detail()));
+                }
+            }
+        }
+        return summary.toString();
+    }
+
+    private static String mib(long kib) {
+        return kib < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f MiB", kib / 1024.0);
+    }
+
+    /**
+     * What was measured and checked for one build.
+     *
+     * @param target            the target name
+     * @param startup           time from launching the process to the first healthy response
+     * @param readyRssKib       resident set size once healthy, in KiB
+     * @param afterChecksRssKib resident set size after the checks, in KiB
+     * @param peakRssKib        peak resident set size, in KiB
+     * @param checks            the check results
+     * @param startupFailure    why the target never became healthy, or null
+     */
+    private record TargetResult(String target,
+                                Duration startup,
+                                long readyRssKib,
+                                long afterChecksRssKib,
+                                long peakRssKib,
+                                List<CheckResult> checks,
+                                String startupFailure) {
+
+        static TargetResult failedToStart(String target, String failure) {
+            return new TargetResult(target, null, -1, -1, -1, List.of(), failure);
+        }
+
+        boolean passed() {
+            return startupFailure == null && checks.stream().allMatch(CheckResult::passed);
+        }
+    }
+
+}
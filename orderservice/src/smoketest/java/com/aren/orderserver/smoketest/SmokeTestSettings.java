@@ -0,0 +1,85 @@
+package com.aren.orderserver.smoketest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Smoke test parameters, read from {@code smoketest.*} system properties.
+ *
+ * @param targets          builds to start, in order: {@code native} for the native image, {@code jvm} for the jar
+ * @param nativeImage      path of the native executable
+ * @param jar              path of the executable jar
+ * @param jvmArgs          options passed to the JVM running the jar
+ * @param schema           path of the schema script applied before the first target starts
+ * @param startupTimeout   time a target gets to report itself healthy
+ * @param postgresUrl      JDBC URL of an existing database, or null to start a container
+ * @param postgresUser     database user when an existing database is used
+ * @param postgresPassword database password when an existing database is used
+ * @param redisHost        host of an existing Redis, or null to start a container
+ * @param redisPort        port of an existing Redis
+ * @param resetSchema      whether the tables of an existing database may be dropped and recreated
+ * @param reportDir        directory the application logs and the summary are written to
+ */
+public record SmokeTestSettings(List<String> targets,
+                                String nativeImage,
+                                String jar,
+                                List<String> jvmArgs,
+                                String schema,
+                                Duration startupTimeout,
+                                String postgresUrl,
+                                String postgresUser,
+                                String postgresPassword,
+                                String redisHost,
+                                int redisPort,
+                                boolean resetSchema,
+                                String reportDir) {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("targets", "native,jvm"),
+            Map.entry("native-image", "build/native/nativeCompile/orderserver"),
+            Map.entry("jar", "build/libs/orderserver-0.0.1-SNAPSHOT.jar"),
+            Map.entry("jvm-args", ""),
+            Map.entry("schema", "src/main/resources/db/migration/update-schema.sql"),
+            Map.entry("startup-timeout", "120s"),
+            Map.entry("redis.port", "6379"),
+            Map.entry("reset-schema", "false"),
+            Map.entry("report-dir", "build/reports/smoketest")
+    );
+
+    /**
+     * Reads the settings from {@code smoketest.*} system properties, falling back to the defaults.
+     *
+     * @return the smoke test settings
+     */
+    public static SmokeTestSettings fromSystemProperties() {
+        return new SmokeTestSettings(
+                split(get("targets"), ","),
+                get("native-image"),
+                get("jar"),
+                split(get("jvm-args"), " "),
+                get("schema"),
+                Duration.parse("PT" + get("startup-timeout").toUpperCase()),
+                get("postgres.url"),
+                get("postgres.username"),
+                get("postgres.password"),
+                get("redis.host"),
+                Integer.parseInt(get("redis.port")),
+                Boolean.parseBoolean(get("reset-schema")),
+                get("report-dir")
+        );
+    }
+
+    private static String get(String name) {
+        return System.getProperty("smoketest." + name, DEFAULTS.get(name));
+    }
+
+    private static List<String> split(String value, String separator) {
+        return Arrays.stream(value.split(separator))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+
+}
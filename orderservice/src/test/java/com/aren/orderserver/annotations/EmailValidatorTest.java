@@ -0,0 +1,57 @@
+package com.aren.orderserver.annotations;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailValidatorTest {
+
+    private final EmailValidator emailValidator = new EmailValidator();
+
+    /**
+     * Method under test: {@link EmailValidator#isValid(String, jakarta.validation.ConstraintValidatorContext)}
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"test@mail.com", "first.last+tag@sub.domain.org", "A_B%C-D@EXAMPLE.MUSEUM", "a@b.co"})
+    void testValidAddresses(String email) {
+        // Act and Assert
+        assertTrue(emailValidator.isValid(email, null));
+    }
+
+    /**
+     * Method under test: {@link EmailValidator#isValid(String, jakarta.validation.ConstraintValidatorContext)}
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", "test", "@mail.com", "test@", "test@.com", "test@mail", "test@mail.c", "test@mail.comcomc",
+            "test@mail.c0m", "te st@mail.com", "test@ma_il.com", "test@mail@mail.com", "tëst@mail.com", "test@mail.com."})
+    void testInvalidAddresses(String email) {
+        // Act and Assert
+        assertFalse(emailValidator.isValid(email, null));
+    }
+
+    /**
+     * Method under test: {@link EmailValidator#isValid(String, jakarta.validation.ConstraintValidatorContext)}
+     */
+    @Test
+    void testNullIsLeftToNotNull() {
+        // Act and Assert
+        assertTrue(emailValidator.isValid(null, null));
+    }
+
+    /**
+     * Method under test: {@link EmailValidator#isValid(String, jakarta.validation.ConstraintValidatorContext)}
+     */
+    @Test
+    void testAdversarialAddressIsRejectedInLinearTime() {
+        // Arrange
+        String email = "a@" + "a.".repeat(50_000) + "!";
+
+        // Act and Assert
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertFalse(emailValidator.isValid(email, null)));
+    }
+
+}
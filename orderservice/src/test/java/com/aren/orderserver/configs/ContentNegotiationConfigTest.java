@@ -0,0 +1,70 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.web.dto.OrderDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentNegotiationConfigTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2024, 5, 1, 10, 15, 30, 0, ZoneOffset.UTC);
+
+    /**
+     * Method under test: {@link ContentNegotiationConfig#binaryMapper}
+     */
+    @Test
+    void testCborWritesDatesAsEpochMillis() throws Exception {
+        // Arrange
+        ObjectMapper cbor = ContentNegotiationConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+
+        // Act
+        byte[] bytes = cbor.writeValueAsBytes(orderDto());
+        JsonNode tree = cbor.readTree(bytes);
+        OrderDto read = cbor.readValue(bytes, OrderDto.class);
+
+        // Assert
+        assertTrue(tree.get("createdDate").isIntegralNumber());
+        assertEquals(CREATED.toInstant().toEpochMilli(), tree.get("createdDate").asLong());
+        assertEquals(CREATED.toInstant(), read.getCreatedDate().toInstant());
+        assertEquals("title", read.getTitle());
+    }
+
+    /**
+     * Method under test: {@link ContentNegotiationConfig#binaryMapper}
+     */
+    @Test
+    void testBinaryFormatsAreSmallerThanJson() throws Exception {
+        // Arrange
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cbor = ContentNegotiationConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+        ObjectMapper smile = ContentNegotiationConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+
+        // Act
+        int jsonSize = json.writeValueAsBytes(orderDto()).length;
+        int cborSize = cbor.writeValueAsBytes(orderDto()).length;
+        int smileSize = smile.writeValueAsBytes(orderDto()).length;
+
+        // Assert
+        assertTrue(cborSize < jsonSize);
+        assertTrue(smileSize < jsonSize);
+    }
+
+    private static OrderDto orderDto() {
+        OrderDto orderDto = new OrderDto();
+        orderDto.setId(1);
+        orderDto.setTitle("title");
+        orderDto.setDescription("Description");
+        orderDto.setStatus("READY");
+        orderDto.setCreatedDate(CREATED);
+        return orderDto;
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonConfigTest {
+
+    private final JacksonConfig jacksonConfig = new JacksonConfig();
+
+    /**
+     * Method under test: {@link JacksonConfig#orderSerializationModule()}
+     */
+    @Test
+    void testOrderJsonMatchesBeanSerializer() throws Exception {
+        // Arrange
+        ObjectMapper bean = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper tuned = tunedBuilder().build();
+        List<OrderDto> orders = List.of(orderDto(), new OrderDto());
+
+        // Act
+        String expected = bean.writeValueAsString(orders);
+        String actual = tuned.writeValueAsString(orders);
+
+        // Assert
+        assertEquals(expected, actual);
+        assertTrue(actual.contains("\"createdDate\":\"2024-05-01 09:05\""));
+    }
+
+    /**
+     * Method under test: {@link JacksonConfig#orderSerializationModule()}
+     */
+    @Test
+    void testOrderPropertiesMatchBeanIntrospection() throws Exception {
+        // Arrange
+        ObjectMapper tuned = tunedBuilder().build();
+
+        // Act
+        JsonNode order = tuned.readTree(tuned.writeValueAsString(orderDto()));
+
+        // Assert
+        assertEquals(propertyNames(tuned, OrderDto.class), fieldNames(order));
+        assertEquals(propertyNames(tuned, User.class), fieldNames(order.get("createdBy")));
+        assertFalse(order.get("createdBy").has("password"));
+    }
+
+    /**
+     * Method under test: {@link JacksonConfig#orderSerializationModule()}
+     */
+    @Test
+    void testOrderDatesWithoutPatternUseDateSerializer() throws Exception {
+        // Arrange
+        JacksonAnnotationIntrospector ignoreFormats = new JacksonAnnotationIntrospector() {
+            @Override
+            public JsonFormat.Value findFormat(Annotated annotated) {
+                return JsonFormat.Value.empty();
+            }
+        };
+        ObjectMapper bean = Jackson2ObjectMapperBuilder.json().annotationIntrospector(ignoreFormats).build();
+        ObjectMapper tuned = tunedBuilder().annotationIntrospector(ignoreFormats).build();
+
+        // Act
+        String expected = bean.writeValueAsString(orderDto());
+        String actual = tuned.writeValueAsString(orderDto());
+
+        // Assert
+        assertEquals(expected, actual);
+        assertEquals(orderDto().getCreatedDate().toInstant(), tuned.readValue(actual, OrderDto.class).getCreatedDate().toInstant());
+    }
+
+    /**
+     * Method under test: {@link JacksonConfig#orderSerializationModule()}
+     */
+    @Test
+    void testOrderCborMatchesBeanSerializer() throws Exception {
+        // Arrange
+        ObjectMapper bean = ContentNegotiationConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+        ObjectMapper tuned = ContentNegotiationConfig.binaryMapper(tunedBuilder(), new CBORFactory());
+
+        // Act
+        byte[] expected = bean.writeValueAsBytes(orderDto());
+        byte[] actual = tuned.writeValueAsBytes(orderDto());
+
+        // Assert
+        assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Method under test: {@link JacksonConfig#orderSerializationModule()}
+     */
+    @Test
+    void testStatisticsJsonMatchesBeanSerializer() throws Exception {
+        // Arrange
+        ObjectMapper bean = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper tuned = tunedBuilder().build();
+        StatisticsDto statisticsDto = new StatisticsDto(1L, 2L, null, 3L);
+
+        // Act
+        String expected = bean.writeValueAsString(statisticsDto);
+        String actual = tuned.writeValueAsString(statisticsDto);
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
+    private static Set<String> propertyNames(ObjectMapper mapper, Class<?> type) {
+        return mapper.getSerializationConfig().introspect(mapper.constructType(type)).findProperties().stream()
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private Jackson2ObjectMapperBuilder tunedBuilder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(jacksonConfig.blackbirdModule(), jacksonConfig.orderSerializationModule());
+    }
+
+    private static OrderDto orderDto() {
+        User poster = new User("poster", "password", "poster@mail.com", UserRole.POSTER);
+        poster.setId(1);
+        User processor = new User("processor", "password", "processor@mail.com", UserRole.PROCESSOR);
+        processor.setId(2);
+
+        OrderDto orderDto = new OrderDto();
+        orderDto.setId(1);
+        orderDto.setTitle("title \"quoted\"");
+        orderDto.setDescription(null);
+        orderDto.setStatus("IN_PROCESS");
+        orderDto.setCreatedBy(poster);
+        orderDto.setProcessedBy(processor);
+        orderDto.setCreatedDate(OffsetDateTime.of(2024, 5, 1, 9, 5, 30, 0, ZoneOffset.ofHours(4)));
+        orderDto.setUpdatedDate(OffsetDateTime.of(2024, 12, 31, 23, 59, 0, 0, ZoneOffset.UTC));
+        return orderDto;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.annotations.EmailValidator;
+import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.dto.UserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    /**
+     * Method under test: {@link NativeRuntimeHints#registerHints(RuntimeHints, ClassLoader)}
+     */
+    @Test
+    void testJjwtImplementationsAreInstantiable() {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer")
+                .test(hints));
+    }
+
+    /**
+     * Method under test: {@link NativeRuntimeHints#registerHints(RuntimeHints, ClassLoader)}
+     */
+    @Test
+    void testCachedAndObservedTypesAreRegistered() {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.serialization().onType(Order.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.serialization().onType(TypeReference.of("java.time.Ser")).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(TypeReference.of("net.ttddyy.dsproxy.proxy.ProxyJdbcObject"), TypeReference.of(Connection.class))
+                .test(hints));
+    }
+
+    /**
+     * Method under test: {@link NativeRuntimeHints#registerHints(RuntimeHints, ClassLoader)}
+     */
+    @Test
+    void testValidatedAndSerializedDtosAreReflective() {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserDto.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EmailValidator.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(StatisticsDto.class, "setTotal").test(hints));
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.aren.orderserver.configs;
+
+import com.aren.orderserver.configs.properties.RedisClientProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.config.ClusterServersConfig;
+import org.redisson.config.Config;
+import org.redisson.config.ReadMode;
+import org.redisson.config.ReplicatedServersConfig;
+import org.redisson.config.SentinelServersConfig;
+import org.redisson.config.SingleServerConfig;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedissonConfigTest {
+
+    private final RedisProperties redisProperties = new RedisProperties();
+    private final RedisClientProperties properties = new RedisClientProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setConnectionPoolSize(32);
+        properties.setConnectionMinimumIdleSize(8);
+    }
+
+    /**
+     * Method under test: {@link RedissonConfig#createConfig(RedisProperties, RedisClientProperties)}
+     */
+    @Test
+    void testCreateConfigSingle() {
+        // Arrange
+        redisProperties.setHost("redis-0");
+        redisProperties.setPort(6380);
+        redisProperties.setDatabase(2);
+
+        // Act
+        SingleServerConfig config = RedissonConfig.createConfig(redisProperties, properties).useSingleServer();
+
+        // Assert
+        assertEquals("redis://redis-0:6380", config.getAddress());
+        assertEquals(2, config.getDatabase());
+        assertEquals(32, config.getConnectionPoolSize());
+        assertEquals(8, config.getConnectionMinimumIdleSize());
+    }
+
+    /**
+     * Method under test: {@link RedissonConfig#createConfig(RedisProperties, RedisClientProperties)}
+     */
+    @Test
+    void testCreateConfigSentinel() {
+        // Arrange
+        RedisProperties.Sentinel sentinel = new RedisProperties.Sentinel();
+        sentinel.setMaster("orders");
+        sentinel.setNodes(List.of("sentinel-0:26379", "sentinel-1:26379", "sentinel-2:26379"));
+        redisProperties.setSentinel(sentinel);
+        properties.setMode(RedisClientProperties.Mode.SENTINEL);
+        properties.setReadMode(ReadMode.SLAVE);
+
+        // Act
+        Config config = RedissonConfig.createConfig(redisProperties, properties);
+
+        // Assert
+        SentinelServersConfig sentinelConfig = config.useSentinelServers();
+        assertEquals("orders", sentinelConfig.getMasterName());
+        assertEquals(List.of("redis://sentinel-0:26379", "redis://sentinel-1:26379", "redis://sentinel-2:26379"),
+                sentinelConfig.getSentinelAddresses());
+        assertEquals(ReadMode.SLAVE, sentinelConfig.getReadMode());
+        assertEquals(32, sentinelConfig.getSlaveConnectionPoolSize());
+    }
+
+    /**
+     * Method under test: {@link RedissonConfig#createConfig(RedisProperties, RedisClientProperties)}
+     */
+    @Test
+    void testCreateConfigCluster() {
+        // Arrange
+        RedisProperties.Cluster cluster = new RedisProperties.Cluster();
+        cluster.setNodes(List.of("node-0:7000", "node-1:7001", "rediss://node-2:7002"));
+        redisProperties.setCluster(cluster);
+        properties.setMode(RedisClientProperties.Mode.CLUSTER);
+        properties.setReadMode(ReadMode.MASTER_SLAVE);
+
+        // Act
+        ClusterServersConfig config = RedissonConfig.createConfig(redisProperties, properties).useClusterServers();
+
+        // Assert
+        assertEquals(List.of("redis://node-0:7000", "redis://node-1:7001", "rediss://node-2:7002"),
+                config.getNodeAddresses());
+        assertEquals(ReadMode.MASTER_SLAVE, config.getReadMode());
+        assertEquals(32, config.getMasterConnectionPoolSize());
+    }
+
+    /**
+     * Method under test: {@link RedissonConfig#createConfig(RedisProperties, RedisClientProperties)}
+     */
+    @Test
+    void testCreateConfigReplicated() {
+        // Arrange
+        properties.setMode(RedisClientProperties.Mode.REPLICATED);
+        properties.setReplicatedNodes(List.of("primary:6379", "replica:6379"));
+
+        // Act
+        ReplicatedServersConfig config = RedissonConfig.createConfig(redisProperties, properties).useReplicatedServers();
+
+        // Assert
+        assertEquals(List.of("redis://primary:6379", "redis://replica:6379"), config.getNodeAddresses());
+        assertEquals(ReadMode.MASTER, config.getReadMode());
+    }
+
+    /**
+     * Method under test: {@link RedissonConfig#createConfig(RedisProperties, RedisClientProperties)}
+     */
+    @Test
+    void testCreateConfigClusterWithoutNodes() {
+        // Arrange
+        properties.setMode(RedisClientProperties.Mode.CLUSTER);
+
+        // Act and Assert
+        assertThrows(IllegalStateException.class, () -> RedissonConfig.createConfig(redisProperties, properties));
+    }
+
+    /**
+     * Method under test: {@link RedissonConfig#createConfig(RedisProperties, RedisClientProperties)}
+     */
+    @Test
+    void testCreateConfigLazyInitialization() {
+        // Arrange
+        properties.setLazyInitialization(true);
+
+        // Act
+        Config config = RedissonConfig.createConfig(redisProperties, properties);
+
+        // Assert
+        assertTrue(config.isLazyInitialization());
+    }
+
+    /**
+     * Method under test: {@link RedissonConfig#createBlockingConfig(RedisProperties, RedisClientProperties)}
+     */
+    @Test
+    void testCreateBlockingConfigUsesItsOwnPool() {
+        // Arrange
+        redisProperties.setHost("redis-0");
+        properties.getBlockingReads().setConnectionPoolSize(6);
+        properties.getBlockingReads().setNettyThreads(2);
+
+        // Act
+        Config config = RedissonConfig.createBlockingConfig(redisProperties, properties);
+
+        // Assert
+        SingleServerConfig singleConfig = config.useSingleServer();
+        assertEquals("redis://redis-0:6379", singleConfig.getAddress());
+        assertEquals(6, singleConfig.getConnectionPoolSize());
+        assertEquals(1, singleConfig.getConnectionMinimumIdleSize());
+        assertEquals(2, config.getNettyThreads());
+    }
+
+}
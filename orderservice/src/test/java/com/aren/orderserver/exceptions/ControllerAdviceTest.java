@@ -0,0 +1,72 @@
+package com.aren.orderserver.exceptions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ControllerAdviceTest {
+
+    private final ControllerAdvice controllerAdvice = new ControllerAdvice();
+
+    /**
+     * Method under test: {@link ControllerAdvice#handleOrderProgressException(OrderProgressException)}
+     */
+    @Test
+    void testOrderProgressExceptionIsAnsweredWithSharedBody() {
+        // Arrange
+        OrderProgressException exception = new OrderProgressException(ErrorCode.ORDER_ALREADY_IN_PROCESS);
+
+        // Act
+        ExceptionBody first = controllerAdvice.handleOrderProgressException(exception);
+        ExceptionBody second = controllerAdvice.handleOrderProgressException(exception);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(ErrorCode.ORDER_ALREADY_IN_PROCESS, first.getCode());
+        assertEquals("Order already is processing by another user", first.getMessage());
+        assertNull(first.getErrors());
+    }
+
+    /**
+     * Method under test: {@link ControllerAdvice#handleIllegalStateException(IllegalStateException)}
+     */
+    @Test
+    void testIllegalStateExceptionKeepsItsMessage() {
+        // Act
+        ExceptionBody body = controllerAdvice.handleIllegalStateException(new IllegalStateException("Key reused"));
+
+        // Assert
+        assertEquals(ErrorCode.INVALID_REQUEST, body.getCode());
+        assertEquals("Key reused", body.getMessage());
+    }
+
+    /**
+     * Method under test: {@link ControllerAdvice#handleSubscriptionRejectedException(SubscriptionRejectedException)}
+     */
+    @Test
+    void testSubscriptionRejectionIsAnsweredWithItsCode() {
+        // Act
+        ExceptionBody body = controllerAdvice.handleSubscriptionRejectedException(
+                new SubscriptionRejectedException(ErrorCode.TOO_MANY_SUBSCRIBERS));
+
+        // Assert
+        assertEquals(ErrorCode.TOO_MANY_SUBSCRIBERS, body.getCode());
+        assertEquals("Too many subscribers, try again later.", body.getMessage());
+    }
+
+    /**
+     * Method under test: {@link BusinessException#BusinessException(ErrorCode)}
+     */
+    @Test
+    void testBusinessExceptionsHaveNoStackTrace() {
+        // Act
+        BusinessException exception = new ResourceNotFoundException(ErrorCode.ORDER_NOT_FOUND);
+        exception.addSuppressed(new IllegalStateException());
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+        assertEquals("Order not found", exception.getMessage());
+    }
+
+}
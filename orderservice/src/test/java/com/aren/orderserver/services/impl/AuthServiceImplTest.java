@@ -1,6 +1,7 @@
 package com.aren.orderserver.services.impl;
 
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.UserRole;
 import com.aren.orderserver.services.UserService;
 import com.aren.orderserver.web.dto.auth.JwtRequest;
 import com.aren.orderserver.web.dto.auth.JwtResponse;
@@ -50,10 +51,10 @@ class AuthServiceImplTest {
         user.setId(1);
         user.setUsername("username");
         user.setPassword("password");
-        user.setRole("POSTER");
+        user.setRole(UserRole.POSTER);
 
         when(userService.getUserByUsername("username")).thenReturn(user);
-        when(jwtTokenProvider.createAccessToken(anyInt(), eq("username"), eq("POSTER"))).thenReturn("mockAccessToken");
+        when(jwtTokenProvider.createAccessToken(anyInt(), eq("username"), eq(UserRole.POSTER))).thenReturn("mockAccessToken");
         when(jwtTokenProvider.createRefreshToken(anyInt(), eq("username"))).thenReturn("mockRefreshToken");
 
         // Act
@@ -68,7 +69,7 @@ class AuthServiceImplTest {
         // Verify interactions
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userService).getUserByUsername("username");
-        verify(jwtTokenProvider).createAccessToken(1, "username", "POSTER");
+        verify(jwtTokenProvider).createAccessToken(1, "username", UserRole.POSTER);
         verify(jwtTokenProvider).createRefreshToken(1, "username");
     }
 
@@ -114,4 +115,17 @@ class AuthServiceImplTest {
         verify(jwtTokenProvider).refreshUserTokens(refreshToken);
         verifyNoMoreInteractions(authenticationManager, userService);
     }
-}
\ No newline at end of file
+
+    /**
+     * Method under test: {@link AuthServiceImpl#logout(String)}
+     */
+    @Test
+    void testLogout() {
+        // Act
+        authServiceImpl.logout("mockRefreshToken");
+
+        // Verify interactions
+        verify(jwtTokenProvider).revokeRefreshToken("mockRefreshToken");
+        verifyNoInteractions(authenticationManager, userService);
+    }
+}
@@ -0,0 +1,61 @@
+package com.aren.orderserver.services.impl;
+
+import com.aren.orderserver.configs.properties.OrderArchiveProperties;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.repositories.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ContextConfiguration(classes = {OrderArchiveServiceImpl.class, OrderArchiveProperties.class})
+@ExtendWith(SpringExtension.class)
+@DisabledInAotMode
+class OrderArchiveServiceImplTest {
+
+    @Autowired
+    private OrderArchiveServiceImpl orderArchiveServiceImpl;
+
+    @Autowired
+    private OrderArchiveProperties orderArchiveProperties;
+
+    @MockBean
+    private OrderRepository orderRepository;
+
+    /**
+     * Method under test: {@link OrderArchiveServiceImpl#archiveProcessed()}
+     */
+    @Test
+    void testArchiveProcessed() {
+        // Arrange
+        orderArchiveProperties.setArchiveAfter(Duration.ofDays(7));
+        orderArchiveProperties.setBatchSize(250);
+        when(orderRepository.archiveOrders(any(), anyShort(), anyInt())).thenReturn(List.of(3, 5));
+        OffsetDateTime lowerBound = OffsetDateTime.now().minusDays(7);
+
+        // Act
+        List<Integer> archived = orderArchiveServiceImpl.archiveProcessed();
+
+        // Assert
+        assertEquals(List.of(3, 5), archived);
+        verify(orderRepository).archiveOrders(
+                argThat(cutoff -> !cutoff.isBefore(lowerBound) && cutoff.isBefore(OffsetDateTime.now().minusDays(6))),
+                eq(OrderStatus.PROCESSED.getCode()),
+                eq(250));
+    }
+}
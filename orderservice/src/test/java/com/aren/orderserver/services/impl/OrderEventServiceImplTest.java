@@ -0,0 +1,180 @@
+package com.aren.orderserver.services.impl;
+
+import com.aren.orderserver.configs.properties.OrderEventProperties;
+import com.aren.orderserver.entities.OrderEvent;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.repositories.OrderEventRepository;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import com.aren.orderserver.web.redis.OrderEventStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.redisson.api.StreamMessageId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ContextConfiguration(classes = {OrderEventServiceImpl.class})
+@ExtendWith(SpringExtension.class)
+@DisabledInAotMode
+class OrderEventServiceImplTest {
+
+    @Autowired
+    private OrderEventServiceImpl orderEventServiceImpl;
+
+    @MockBean
+    private OrderEventRepository orderEventRepository;
+
+    /**
+     * Also serves as the default {@link com.aren.orderserver.services.OrderEventPublisher}.
+     */
+    @MockBean
+    private OrderEventStream orderEventStream;
+
+    @MockBean
+    private OrderEventProperties orderEventProperties;
+
+    @BeforeEach
+    void setUp() {
+        when(orderEventProperties.getBatchSize()).thenReturn(500);
+        when(orderEventProperties.getMaxReadCount()).thenReturn(1000);
+        when(orderEventProperties.getMaxWait()).thenReturn(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#relayPending()}
+     */
+    @Test
+    void testRelayPending() {
+        // Arrange
+        List<OrderEvent> events = List.of(
+                new OrderEvent(1, "PLACED", OrderStatus.READY, 1, OffsetDateTime.now()),
+                new OrderEvent(1, "PROCESSING_STARTED", OrderStatus.IN_PROCESS, 2, OffsetDateTime.now())
+        );
+        when(orderEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(events);
+
+        // Act
+        int published = orderEventServiceImpl.relayPending();
+
+        // Assert
+        assertEquals(2, published);
+        verify(orderEventStream).publish(events);
+        verify(orderEventRepository).deleteAllInBatch(events);
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#relayPending()}
+     */
+    @Test
+    void testRelayPendingEmpty() {
+        // Arrange
+        when(orderEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        int published = orderEventServiceImpl.relayPending();
+
+        // Assert
+        assertEquals(0, published);
+        verify(orderEventStream, never()).publish(anyList());
+        verify(orderEventRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#relayPending()}
+     */
+    @Test
+    void testRelayPendingKeepsEventsWhenPublishFails() {
+        // Arrange
+        List<OrderEvent> events = List.of(new OrderEvent(1, "PLACED", OrderStatus.READY, 1, OffsetDateTime.now()));
+        when(orderEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(events);
+        doThrow(new IllegalStateException("unavailable")).when(orderEventStream).publish(events);
+
+        // Act and Assert
+        assertThrows(IllegalStateException.class, () -> orderEventServiceImpl.relayPending());
+        verify(orderEventRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#getEvents(String, String, int, Duration)}
+     */
+    @Test
+    void testGetEventsResumesFromCommittedOffset() {
+        // Arrange
+        OrderEventDto event = OrderEventDto.builder().offset("5-1").orderId(1).build();
+        when(orderEventStream.getOffset("processor")).thenReturn("5-0");
+        when(orderEventStream.read(any(), anyInt(), any())).thenReturn(List.of(event));
+
+        // Act
+        List<OrderEventDto> events = orderEventServiceImpl.getEvents(null, "processor", 5000, Duration.ofMinutes(1));
+
+        // Assert
+        assertEquals(List.of(event), events);
+        verify(orderEventStream).read(eq(new StreamMessageId(5, 0)), eq(1000), eq(Duration.ofSeconds(10)));
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#getEvents(String, String, int, Duration)}
+     */
+    @Test
+    void testGetEventsFromStart() {
+        // Arrange
+        when(orderEventStream.read(any(), anyInt(), any())).thenReturn(List.of());
+
+        // Act
+        orderEventServiceImpl.getEvents(null, null, 10, Duration.ZERO);
+
+        // Assert
+        verify(orderEventStream).read(eq(new StreamMessageId(0, 0)), eq(10), eq(Duration.ZERO));
+        verify(orderEventStream, never()).getOffset(anyString());
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#getEvents(String, String, int, Duration)}
+     */
+    @Test
+    void testGetEventsInvalidOffset() {
+        // Act and Assert
+        assertThrows(IllegalStateException.class,
+                () -> orderEventServiceImpl.getEvents("not-an-offset", null, 10, Duration.ZERO));
+        verify(orderEventStream, never()).read(any(), anyInt(), any());
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#getOffset(String)}
+     */
+    @Test
+    void testGetOffsetWithoutCommit() {
+        // Arrange
+        when(orderEventStream.getOffset("processor")).thenReturn(null);
+
+        // Act and Assert
+        assertEquals("0-0", orderEventServiceImpl.getOffset("processor"));
+    }
+
+    /**
+     * Method under test: {@link OrderEventServiceImpl#commitOffset(String, String)}
+     */
+    @Test
+    void testCommitOffset() {
+        // Act
+        orderEventServiceImpl.commitOffset("processor", "1700000000000-3");
+
+        // Assert
+        verify(orderEventStream).setOffset("processor", "1700000000000-3");
+    }
+}
@@ -5,15 +5,24 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
+import com.aren.orderserver.configs.properties.OrderProcessingProperties;
 import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.entities.OrderEvent;
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.OrderEventType;
 import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
 import com.aren.orderserver.exceptions.AccessDeniedException;
+import com.aren.orderserver.exceptions.ErrorCode;
 import com.aren.orderserver.exceptions.OrderProgressException;
 import com.aren.orderserver.exceptions.ResourceNotFoundException;
+import com.aren.orderserver.repositories.OrderEventRepository;
 import com.aren.orderserver.repositories.OrderRepository;
 import com.aren.orderserver.services.UserService;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.redis.OrderChangeTracker;
 import com.aren.orderserver.web.redis.OrderProcessingLock;
+import com.aren.orderserver.web.tracing.InMemorySpanExporter;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -24,18 +33,33 @@ import java.util.List;
 import java.util.Optional;
 
 import com.aren.orderserver.web.security.JwtEntity;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-@ContextConfiguration(classes = {OrderServiceImpl.class})
+import java.time.Duration;
+
+@ContextConfiguration(classes = {OrderServiceImpl.class, OrderProcessingProperties.class, OrderServiceImplTest.TracingTestConfig.class})
 @ExtendWith(SpringExtension.class)
 @DisabledInAotMode
 class OrderServiceImplTest {
@@ -46,12 +70,57 @@ class OrderServiceImplTest {
     @MockBean
     private OrderRepository orderRepository;
 
+    @MockBean
+    private OrderEventRepository orderEventRepository;
+
+    @MockBean
+    private OrderChangeTracker orderChangeTracker;
+
     @Autowired
     private OrderServiceImpl orderServiceImpl;
 
     @MockBean
     private UserService userService;
 
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private OrderProcessingProperties orderProcessingProperties;
+
+    @TestConfiguration
+    static class TracingTestConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return new InMemorySpanExporter(100);
+        }
+
+        @Bean
+        ObservationRegistry observationRegistry(InMemorySpanExporter spanExporter) {
+            SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                    .build();
+            OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), new OtelCurrentTraceContext(), event -> {
+            });
+            ObservationRegistry observationRegistry = ObservationRegistry.create();
+            observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+            return observationRegistry;
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate() {
+            return new TransactionTemplate(mock(PlatformTransactionManager.class));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        orderProcessingProperties.setDistributedLock(false);
+        orderProcessingProperties.setMaxAttempts(3);
+        orderProcessingProperties.setRetryBackoff(Duration.ZERO);
+    }
+
     /**
      * Method under test: {@link OrderServiceImpl#placeAndOrder(Order)}
      */
@@ -60,7 +129,7 @@ class OrderServiceImplTest {
         Order order = new Order();
         order.setId(1);
         order.setCreatedDate(OffsetDateTime.now());
-        order.setStatus("Role");
+        order.setStatus(OrderStatus.READY);
         User user = new User();
         user.setId(1);
         user.setUsername("username");
@@ -82,12 +151,15 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(placedOrder);
         assertEquals(1, placedOrder.getId());
-        assertEquals(OrderStatus.READY.name(), placedOrder.getStatus());
+        assertEquals(OrderStatus.READY, placedOrder.getStatus());
         assertEquals(user, placedOrder.getCreatedBy());
 
         // Verify interactions
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderChangeTracker).markChanged(user.getId());
         verify(userService, times(1)).getUser(anyInt());
+        verify(orderEventRepository).save(argThat((OrderEvent event) ->
+                event.getType().equals(OrderEventType.PLACED.name()) && event.getUserId().equals(1)));
     }
 
     /**
@@ -100,14 +172,14 @@ class OrderServiceImplTest {
         createdBy.setEmail("test@mail.com");
         createdBy.setId(1);
         createdBy.setPassword("password");
-        createdBy.setRole("Role");
+        createdBy.setRole(UserRole.PROCESSOR);
         createdBy.setUsername("username");
 
         User processedBy = new User();
         processedBy.setEmail("test@mail.com");
         processedBy.setId(1);
         processedBy.setPassword("password");
-        processedBy.setRole("Role");
+        processedBy.setRole(UserRole.PROCESSOR);
         processedBy.setUsername("username");
 
         Order order = new Order();
@@ -116,7 +188,7 @@ class OrderServiceImplTest {
         order.setDescription("description");
         order.setId(1);
         order.setProcessedBy(processedBy);
-        order.setStatus("Status");
+        order.setStatus(OrderStatus.READY);
         order.setTitle("Title");
         order.setUpdatedDate(OffsetDateTime.of(LocalDate.of(1970, 1, 1), LocalTime.MIDNIGHT, ZoneOffset.UTC));
         Optional<Order> ofResult = Optional.of(order);
@@ -151,7 +223,7 @@ class OrderServiceImplTest {
     @Test
     void testGetByIdAccessDenied() {
         // Arrange
-        when(orderRepository.findById(anyInt())).thenThrow(new AccessDeniedException("An error occurred"));
+        when(orderRepository.findById(anyInt())).thenThrow(new AccessDeniedException(ErrorCode.ACCESS_DENIED));
 
         // Act and Assert
         assertThrows(AccessDeniedException.class, () -> orderServiceImpl.getById(1));
@@ -166,7 +238,7 @@ class OrderServiceImplTest {
         // Arrange
         User user = new User();
         user.setId(1);
-        user.setRole("PROCESSOR");
+        user.setRole(UserRole.PROCESSOR);
         user.setUsername("username");
         user.setPassword("password");
         user.setEmail("test@mail.com");
@@ -178,7 +250,7 @@ class OrderServiceImplTest {
         orders.add(order1);
 
         when(userService.getUser(anyInt())).thenReturn(user);
-        when(orderRepository.findAll()).thenReturn(orders);
+        when(orderRepository.findAllByArchivedFalse()).thenReturn(orders);
 
         List<GrantedAuthority> authorities = new ArrayList<>();
         JwtEntity jwtEntity = new JwtEntity(user.getId(), user.getUsername(), user.getPassword(), user.getEmail(), authorities);
@@ -197,7 +269,38 @@ class OrderServiceImplTest {
 
         // Verify interactions
         verify(userService, times(2)).getUser(anyInt());
-        verify(orderRepository, times(1)).findAll();
+        verify(orderRepository, times(1)).findAllByArchivedFalse();
+    }
+
+    /**
+     * Method under test: {@link OrderServiceImpl#getOrders()}
+     */
+    @Test
+    void testGetOrdersForPoster() {
+        // Arrange
+        User user = new User();
+        user.setId(2);
+        user.setRole(UserRole.POSTER);
+
+        Order order = new Order();
+        order.setId(1);
+        order.setCreatedBy(user);
+
+        when(userService.getUser(anyInt())).thenReturn(user);
+        when(orderRepository.findAllByArchivedFalseAndCreatedById(2)).thenReturn(List.of(order));
+
+        JwtEntity jwtEntity = new JwtEntity(user.getId(), "username", "password", "test@mail.com", new ArrayList<>());
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(jwtEntity);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // Act
+        List<Order> retrievedOrders = orderServiceImpl.getOrders();
+
+        // Assert
+        assertEquals(List.of(order), retrievedOrders);
+        verify(orderRepository, never()).findAll();
+        verify(orderRepository, never()).findAllByArchivedFalse();
     }
 
     /**
@@ -213,7 +316,7 @@ class OrderServiceImplTest {
         List<Order> actualReadyToProcess = orderServiceImpl.getReadyToProcess();
 
         // Assert
-        verify(orderRepository).getOrderByStatus(eq("READY"));
+        verify(orderRepository).getOrderByStatus(eq(OrderStatus.READY));
         assertTrue(actualReadyToProcess.isEmpty());
         assertSame(orderList, actualReadyToProcess);
     }
@@ -227,10 +330,10 @@ class OrderServiceImplTest {
         List<Order> orders = new ArrayList<>();
         Order order1 = new Order();
         order1.setId(1);
-        order1.setStatus(OrderStatus.READY.name());
+        order1.setStatus(OrderStatus.READY);
         orders.add(order1);
 
-        when(orderRepository.getOrderByStatus(OrderStatus.READY.name())).thenReturn(orders);
+        when(orderRepository.getOrderByStatus(OrderStatus.READY)).thenReturn(orders);
 
         // Act
         List<Order> readyOrders = orderServiceImpl.getReadyToProcess();
@@ -238,10 +341,10 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(readyOrders);
         assertEquals(1, readyOrders.size());
-        assertEquals(OrderStatus.READY.name(), readyOrders.get(0).getStatus());
+        assertEquals(OrderStatus.READY, readyOrders.get(0).getStatus());
 
         // Verify interactions
-        verify(orderRepository, times(1)).getOrderByStatus(OrderStatus.READY.name());
+        verify(orderRepository, times(1)).getOrderByStatus(OrderStatus.READY);
     }
 
     /**
@@ -250,11 +353,11 @@ class OrderServiceImplTest {
     @Test
     void testGetReadyToProcess_AccessDenied() {
         // Arrange
-        when(orderRepository.getOrderByStatus(any())).thenThrow(new AccessDeniedException("An error occurred"));
+        when(orderRepository.getOrderByStatus(any())).thenThrow(new AccessDeniedException(ErrorCode.ACCESS_DENIED));
 
         // Act and Assert
         assertThrows(AccessDeniedException.class, () -> orderServiceImpl.getReadyToProcess());
-        verify(orderRepository).getOrderByStatus(eq("READY"));
+        verify(orderRepository).getOrderByStatus(eq(OrderStatus.READY));
     }
 
     /**
@@ -270,7 +373,7 @@ class OrderServiceImplTest {
         List<Order> actualInProcessOrders = orderServiceImpl.getInProcessOrders();
 
         // Assert
-        verify(orderRepository).getOrderByStatus(eq("IN_PROCESS"));
+        verify(orderRepository).getOrderByStatus(eq(OrderStatus.IN_PROCESS));
         assertTrue(actualInProcessOrders.isEmpty());
         assertSame(orderList, actualInProcessOrders);
     }
@@ -284,10 +387,10 @@ class OrderServiceImplTest {
         List<Order> orders = new ArrayList<>();
         Order order1 = new Order();
         order1.setId(1);
-        order1.setStatus(OrderStatus.IN_PROCESS.name());
+        order1.setStatus(OrderStatus.IN_PROCESS);
         orders.add(order1);
 
-        when(orderRepository.getOrderByStatus(OrderStatus.IN_PROCESS.name())).thenReturn(orders);
+        when(orderRepository.getOrderByStatus(OrderStatus.IN_PROCESS)).thenReturn(orders);
 
         // Act
         List<Order> inProcessOrders = orderServiceImpl.getInProcessOrders();
@@ -295,10 +398,10 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(inProcessOrders);
         assertEquals(1, inProcessOrders.size());
-        assertEquals(OrderStatus.IN_PROCESS.name(), inProcessOrders.get(0).getStatus());
+        assertEquals(OrderStatus.IN_PROCESS, inProcessOrders.get(0).getStatus());
 
         // Verify interactions
-        verify(orderRepository, times(1)).getOrderByStatus(OrderStatus.IN_PROCESS.name());
+        verify(orderRepository, times(1)).getOrderByStatus(OrderStatus.IN_PROCESS);
     }
 
 
@@ -308,11 +411,11 @@ class OrderServiceImplTest {
     @Test
     void testGetInProcessOrdersAccessDenied() {
         // Arrange
-        when(orderRepository.getOrderByStatus(any())).thenThrow(new AccessDeniedException("An error occurred"));
+        when(orderRepository.getOrderByStatus(any())).thenThrow(new AccessDeniedException(ErrorCode.ACCESS_DENIED));
 
         // Act and Assert
         assertThrows(AccessDeniedException.class, () -> orderServiceImpl.getInProcessOrders());
-        verify(orderRepository).getOrderByStatus(eq("IN_PROCESS"));
+        verify(orderRepository).getOrderByStatus(eq(OrderStatus.IN_PROCESS));
     }
 
     /**
@@ -321,14 +424,15 @@ class OrderServiceImplTest {
     @Test
     void testStartProcessing() {
         // Arrange
+        orderProcessingProperties.setDistributedLock(true);
         Integer orderId = 1;
         Order order = new Order();
         order.setId(orderId);
-        order.setStatus(OrderStatus.READY.name());
+        order.setStatus(OrderStatus.READY);
 
         User user = new User();
         user.setId(1);
-        user.setRole("PROCESSOR");
+        user.setRole(UserRole.PROCESSOR);
         user.setUsername("username");
         user.setPassword("password");
         user.setEmail("test@mail.com");
@@ -342,6 +446,7 @@ class OrderServiceImplTest {
 
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
         when(orderProcessingLock.isLocked(orderId)).thenReturn(false);
+        when(orderProcessingLock.acquireLock(orderId)).thenReturn(true);
         when(orderRepository.save(any(Order.class))).thenReturn(order);
         when(userService.getUser(anyInt())).thenReturn(user);
 
@@ -351,7 +456,7 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(startedOrder);
         assertEquals(orderId, startedOrder.getId());
-        assertEquals(OrderStatus.IN_PROCESS.name(), startedOrder.getStatus());
+        assertEquals(OrderStatus.IN_PROCESS, startedOrder.getStatus());
         assertEquals(user, startedOrder.getProcessedBy());
 
         // Verify interactions
@@ -360,6 +465,74 @@ class OrderServiceImplTest {
         verify(orderProcessingLock, times(1)).acquireLock(orderId);
         verify(orderProcessingLock, times(1)).releaseLock(orderId);
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderEventRepository).save(argThat((OrderEvent event) ->
+                event.getType().equals(OrderEventType.PROCESSING_STARTED.name()) && event.getUserId().equals(1)));
+    }
+
+    /**
+     * Method under test: {@link OrderServiceImpl#startProcessing(Integer)}
+     */
+    @Test
+    void testStartProcessingLockTakenConcurrently() {
+        // Arrange
+        orderProcessingProperties.setDistributedLock(true);
+        Integer orderId = 1;
+        when(orderProcessingLock.isLocked(orderId)).thenReturn(false);
+        when(orderProcessingLock.acquireLock(orderId)).thenReturn(false);
+
+        // Act
+        OrderProgressException exception = assertThrows(OrderProgressException.class,
+                () -> orderServiceImpl.startProcessing(orderId));
+
+        // Assert
+        assertEquals(ErrorCode.ORDER_ALREADY_IN_PROCESS, exception.getCode());
+        verify(orderProcessingLock, never()).releaseLock(orderId);
+        verifyNoInteractions(orderRepository);
+    }
+
+    /**
+     * Method under test: {@link OrderServiceImpl#startProcessing(Integer)}
+     */
+    @Test
+    void testStartProcessingRecordsStepSpans() {
+        // Arrange
+        orderProcessingProperties.setDistributedLock(true);
+        Integer orderId = 1;
+        Order order = new Order();
+        order.setId(orderId);
+        order.setStatus(OrderStatus.READY);
+
+        User user = new User();
+        user.setId(1);
+        user.setRole(UserRole.PROCESSOR);
+
+        JwtEntity jwtEntity = new JwtEntity(user.getId(), "username", "password", "test@mail.com", new ArrayList<>());
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(jwtEntity);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderProcessingLock.isLocked(orderId)).thenReturn(false);
+        when(orderProcessingLock.acquireLock(orderId)).thenReturn(true);
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(userService.getUser(anyInt())).thenReturn(user);
+        spanExporter.reset();
+
+        // Act
+        orderServiceImpl.startProcessing(orderId);
+
+        // Assert
+        List<SpanData> spans = spanExporter.getFinishedSpans();
+        SpanData transition = spans.stream()
+                .filter(span -> span.getName().equals("start-processing"))
+                .findFirst()
+                .orElseThrow();
+        List<String> steps = spans.stream()
+                .filter(span -> span.getParentSpanId().equals(transition.getSpanId()))
+                .map(SpanData::getName)
+                .toList();
+        assertEquals(List.of("lock-check", "lock-acquire", "find-order", "current-user", "save-order", "lock-release"), steps);
+        assertTrue(spans.stream().allMatch(span -> span.getTraceId().equals(transition.getTraceId())));
     }
 
     /**
@@ -368,6 +541,7 @@ class OrderServiceImplTest {
     @Test
     void testStartProcessingIsLocked() {
         // Arrange
+        orderProcessingProperties.setDistributedLock(true);
         when(orderProcessingLock.isLocked(any())).thenReturn(true);
 
         // Act and Assert
@@ -381,14 +555,89 @@ class OrderServiceImplTest {
     @Test
     void testStartProcessingResourceNotFound() {
         // Arrange
+        orderProcessingProperties.setDistributedLock(true);
         when(orderProcessingLock.isLocked(any()))
-                .thenThrow(new ResourceNotFoundException("An error occurred"));
+                .thenThrow(new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         // Act and Assert
         assertThrows(ResourceNotFoundException.class, () -> orderServiceImpl.startProcessing(1));
         verify(orderProcessingLock).isLocked(eq(1));
     }
 
+    /**
+     * Method under test: {@link OrderServiceImpl#startProcessing(Integer)}
+     */
+    @Test
+    void testStartProcessingRetriesOnConflict() {
+        // Arrange
+        Integer orderId = 1;
+        User user = new User();
+        user.setId(1);
+        user.setRole(UserRole.PROCESSOR);
+
+        JwtEntity jwtEntity = new JwtEntity(user.getId(), "username", "password", "test@mail.com", new ArrayList<>());
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(jwtEntity);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        Order stale = new Order();
+        stale.setId(orderId);
+        stale.setStatus(OrderStatus.READY);
+        Order fresh = new Order();
+        fresh.setId(orderId);
+        fresh.setStatus(OrderStatus.READY);
+
+        when(orderRepository.findById(orderId))
+                .thenReturn(Optional.of(stale))
+                .thenReturn(Optional.of(fresh));
+        when(orderRepository.save(any(Order.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, orderId))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(userService.getUser(anyInt())).thenReturn(user);
+
+        // Act
+        Order startedOrder = orderServiceImpl.startProcessing(orderId);
+
+        // Assert
+        assertSame(fresh, startedOrder);
+        assertEquals(OrderStatus.IN_PROCESS, startedOrder.getStatus());
+        verify(orderRepository, times(2)).findById(orderId);
+        verify(orderRepository, times(2)).save(any(Order.class));
+        verifyNoInteractions(orderProcessingLock);
+    }
+
+    /**
+     * Method under test: {@link OrderServiceImpl#startProcessing(Integer)}
+     */
+    @Test
+    void testStartProcessingConflictRetriesExhausted() {
+        // Arrange
+        Integer orderId = 1;
+        User user = new User();
+        user.setId(1);
+        user.setRole(UserRole.PROCESSOR);
+
+        JwtEntity jwtEntity = new JwtEntity(user.getId(), "username", "password", "test@mail.com", new ArrayList<>());
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(jwtEntity);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        when(orderRepository.findById(orderId)).thenAnswer(invocation -> {
+            Order order = new Order();
+            order.setId(orderId);
+            order.setStatus(OrderStatus.READY);
+            return Optional.of(order);
+        });
+        when(orderRepository.save(any(Order.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, orderId));
+        when(userService.getUser(anyInt())).thenReturn(user);
+
+        // Act and Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> orderServiceImpl.startProcessing(orderId));
+        verify(orderRepository, times(3)).save(any(Order.class));
+        verify(orderEventRepository, never()).save(any(OrderEvent.class));
+    }
+
     /**
      * Method under test: {@link OrderServiceImpl#completeProcessing(Integer)}
      */
@@ -398,11 +647,11 @@ class OrderServiceImplTest {
         Integer orderId = 1;
         Order order = new Order();
         order.setId(orderId);
-        order.setStatus(OrderStatus.IN_PROCESS.name());
+        order.setStatus(OrderStatus.IN_PROCESS);
 
         User user = new User();
         user.setId(1);
-        user.setRole("PROCESSOR");
+        user.setRole(UserRole.PROCESSOR);
         user.setUsername("username");
         user.setPassword("password");
         user.setEmail("test@mail.com");
@@ -425,7 +674,7 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(completedOrder);
         assertEquals(orderId, completedOrder.getId());
-        assertEquals(OrderStatus.PROCESSED.name(), completedOrder.getStatus());
+        assertEquals(OrderStatus.PROCESSED, completedOrder.getStatus());
         assertEquals(user, completedOrder.getProcessedBy());
 
         // Verify interactions
@@ -456,11 +705,11 @@ class OrderServiceImplTest {
         Integer orderId = 1;
         Order order = new Order();
         order.setId(orderId);
-        order.setStatus(OrderStatus.PROCESSED.name());
+        order.setStatus(OrderStatus.PROCESSED);
 
         User user = new User();
         user.setId(1);
-        user.setRole("PROCESSOR");
+        user.setRole(UserRole.PROCESSOR);
         user.setUsername("username");
         user.setPassword("password");
         user.setEmail("test@mail.com");
@@ -491,10 +740,10 @@ class OrderServiceImplTest {
         Integer orderId = 1;
         Order order = new Order();
         order.setId(orderId);
-        order.setStatus(OrderStatus.READY.name());
+        order.setStatus(OrderStatus.READY);
         User user = new User();
         user.setId(1);
-        user.setRole("PROCESSOR");
+        user.setRole(UserRole.PROCESSOR);
         user.setUsername("username");
         user.setPassword("password");
         user.setEmail("test@mail.com");
@@ -525,7 +774,7 @@ class OrderServiceImplTest {
     @Test
     void testCompleteProcessingAccessDenied() {
         // Arrange
-        when(orderRepository.findById(any())).thenThrow(new AccessDeniedException("An error occurred"));
+        when(orderRepository.findById(any())).thenThrow(new AccessDeniedException(ErrorCode.ACCESS_DENIED));
 
         // Act and Assert
         assertThrows(AccessDeniedException.class, () -> orderServiceImpl.completeProcessing(1));
@@ -533,17 +782,39 @@ class OrderServiceImplTest {
     }
 
 
+    /**
+     * Method under test: {@link OrderServiceImpl#getStatisticsByUser()}
+     */
+    @Test
+    void testGetStatisticsByUser() {
+        // Arrange
+        when(orderRepository.countIncludingArchived()).thenReturn(6L);
+        when(orderRepository.countByStatus(OrderStatus.READY)).thenReturn(3L);
+        when(orderRepository.countByStatus(OrderStatus.IN_PROCESS)).thenReturn(2L);
+
+        // Act
+        StatisticsDto statistics = orderServiceImpl.getStatisticsByUser();
+
+        // Assert
+        assertEquals(6L, statistics.getTotal());
+        assertEquals(3L, statistics.getReady());
+        assertEquals(2L, statistics.getInProcess());
+        assertEquals(1L, statistics.getProcessed());
+        verify(orderRepository, never()).getOrderByStatus(any());
+        verify(orderRepository, never()).countByStatus(OrderStatus.PROCESSED);
+    }
+
     /**
      * Method under test: {@link OrderServiceImpl#getStatisticsByUser()}
      */
     @Test
     void testGetStatisticsAccessDenied() {
         // Arrange
-        when(orderRepository.count()).thenThrow(new AccessDeniedException("An error occurred"));
+        when(orderRepository.countIncludingArchived()).thenThrow(new AccessDeniedException(ErrorCode.ACCESS_DENIED));
 
         // Act and Assert
         assertThrows(AccessDeniedException.class, () -> orderServiceImpl.getStatisticsByUser());
-        verify(orderRepository).count();
+        verify(orderRepository).countIncludingArchived();
     }
 
     /**
@@ -552,11 +823,11 @@ class OrderServiceImplTest {
     @Test
     void testGetStatisticsResourceNotFound() {
         // Arrange
-        when(orderRepository.count()).thenThrow(new ResourceNotFoundException("An error occurred"));
+        when(orderRepository.countIncludingArchived()).thenThrow(new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         // Act and Assert
         assertThrows(ResourceNotFoundException.class, () -> orderServiceImpl.getStatisticsByUser());
-        verify(orderRepository).count();
+        verify(orderRepository).countIncludingArchived();
     }
 
     /**
@@ -582,7 +853,7 @@ class OrderServiceImplTest {
     void testIsOrderOwnerAccessDenied() {
         // Arrange
         when(orderRepository.isOrderOwner(any(), any()))
-                .thenThrow(new AccessDeniedException("An error occurred"));
+                .thenThrow(new AccessDeniedException(ErrorCode.ACCESS_DENIED));
 
         // Act and Assert
         assertThrows(AccessDeniedException.class, () -> orderServiceImpl.isOrderOwner(1, 1));
@@ -599,14 +870,14 @@ class OrderServiceImplTest {
         createdBy.setEmail("test@mail.com");
         createdBy.setId(1);
         createdBy.setPassword("password");
-        createdBy.setRole("Role");
+        createdBy.setRole(UserRole.PROCESSOR);
         createdBy.setUsername("username");
 
         User processedBy = new User();
         processedBy.setEmail("test@mail.com");
         processedBy.setId(2);
         processedBy.setPassword("password");
-        processedBy.setRole("Role");
+        processedBy.setRole(UserRole.PROCESSOR);
         processedBy.setUsername("username");
 
         Order order = new Order();
@@ -615,7 +886,7 @@ class OrderServiceImplTest {
         order.setDescription("description");
         order.setId(1);
         order.setProcessedBy(processedBy);
-        order.setStatus("Status");
+        order.setStatus(OrderStatus.READY);
         order.setTitle("Title");
         order.setUpdatedDate(OffsetDateTime.of(LocalDate.of(1970, 1, 1), LocalTime.MIDNIGHT, ZoneOffset.UTC));
         when(orderRepository.save(any())).thenReturn(order);
@@ -624,14 +895,14 @@ class OrderServiceImplTest {
         createdBy2.setEmail("test@mail.com");
         createdBy2.setId(1);
         createdBy2.setPassword("password");
-        createdBy2.setRole("Role");
+        createdBy2.setRole(UserRole.PROCESSOR);
         createdBy2.setUsername("username");
 
         User processedBy2 = new User();
         processedBy2.setEmail("test@mail.com");
         processedBy2.setId(1);
         processedBy2.setPassword("password");
-        processedBy2.setRole("Role");
+        processedBy2.setRole(UserRole.PROCESSOR);
         processedBy2.setUsername("username");
 
         Order order2 = new Order();
@@ -640,7 +911,7 @@ class OrderServiceImplTest {
         order2.setDescription("description");
         order2.setId(1);
         order2.setProcessedBy(processedBy2);
-        order2.setStatus("Status");
+        order2.setStatus(OrderStatus.READY);
         order2.setTitle("Title");
         order2.setUpdatedDate(OffsetDateTime.of(LocalDate.of(1970, 1, 1), LocalTime.MIDNIGHT, ZoneOffset.UTC));
 
@@ -650,7 +921,7 @@ class OrderServiceImplTest {
         // Assert that nothing has changed
         verify(orderRepository).save(isA(Order.class));
         assertEquals("Title", order2.getTitle());
-        assertEquals("Status", order2.getStatus());
+        assertEquals(OrderStatus.READY, order2.getStatus());
         assertEquals("description", order2.getDescription());
         assertEquals("Z", order2.getCreatedDate().getOffset().toString());
         assertEquals("Z", order2.getUpdatedDate().getOffset().toString());
@@ -658,4 +929,54 @@ class OrderServiceImplTest {
         assertEquals("test@mail.com", order2.getProcessedBy().getEmail());
         assertEquals(1, order2.getId().intValue());
     }
+
+    /**
+     * Method under test: {@link OrderServiceImpl#returnToReady(Order)}
+     */
+    @Test
+    void testReturnToReady() {
+        // Arrange
+        User processedBy = new User();
+        processedBy.setId(2);
+
+        Order order = new Order();
+        order.setId(1);
+        order.setProcessedBy(processedBy);
+        order.setStatus(OrderStatus.IN_PROCESS);
+        order.setUpdatedDate(OffsetDateTime.now());
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        // Act
+        Order returned = orderServiceImpl.returnToReady(order);
+
+        // Assert
+        assertEquals(OrderStatus.READY, returned.getStatus());
+        assertNull(returned.getProcessedBy());
+        assertNull(returned.getUpdatedDate());
+        verify(orderRepository).save(order);
+        verify(orderEventRepository).save(argThat((OrderEvent event) ->
+                event.getOrderId().equals(1)
+                        && event.getType().equals(OrderEventType.RETURNED_TO_READY.name())
+                        && event.getStatus().equals(OrderStatus.READY)
+                        && event.getUserId() == null));
+    }
+
+    /**
+     * Method under test: {@link OrderServiceImpl#returnToReady(Order)}
+     */
+    @Test
+    void testReturnToReadyProcessedOrder() {
+        // Arrange
+        Order order = new Order();
+        order.setId(1);
+        order.setStatus(OrderStatus.PROCESSED);
+
+        // Act and Assert
+        OrderProgressException exception = assertThrows(OrderProgressException.class,
+                () -> orderServiceImpl.returnToReady(order));
+        assertEquals("Order already processed", exception.getMessage());
+        assertEquals(OrderStatus.PROCESSED, order.getStatus());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderEventRepository, never()).save(any(OrderEvent.class));
+    }
 }
@@ -0,0 +1,190 @@
+package com.aren.orderserver.services.impl;
+
+import com.aren.orderserver.configs.properties.ReactiveReadProperties;
+import com.aren.orderserver.entities.OrderView;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.exceptions.AccessDeniedException;
+import com.aren.orderserver.repositories.OrderViewRepository;
+import com.aren.orderserver.web.dto.StatisticsDto;
+import com.aren.orderserver.web.security.JwtEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ContextConfiguration(classes = {ReactiveOrderServiceImpl.class})
+@ExtendWith(SpringExtension.class)
+@DisabledInAotMode
+class ReactiveOrderServiceImplTest {
+
+    @Autowired
+    private ReactiveOrderServiceImpl reactiveOrderServiceImpl;
+
+    @MockBean
+    private OrderViewRepository orderViewRepository;
+
+    @MockBean
+    private ReactiveRedisTemplate<String, StatisticsDto> statisticsRedisTemplate;
+
+    @MockBean
+    private ReactiveReadProperties reactiveReadProperties;
+
+    @SuppressWarnings("unchecked")
+    private final ReactiveValueOperations<String, StatisticsDto> valueOperations = mock(ReactiveValueOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        when(reactiveReadProperties.getPrefetch()).thenReturn(16);
+        when(reactiveReadProperties.getStatisticsTtl()).thenReturn(Duration.ofSeconds(5));
+        when(statisticsRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    /**
+     * Method under test: {@link ReactiveOrderServiceImpl#getOrders()}
+     */
+    @Test
+    void testGetOrdersForPoster() {
+        // Arrange
+        authenticate(1, "POSTER");
+        OrderView order = new OrderView();
+        order.setId(1);
+        order.setCreatedById(1);
+        when(orderViewRepository.findAllViewsByCreator(1)).thenReturn(Flux.just(order));
+
+        // Act and Assert
+        StepVerifier.create(reactiveOrderServiceImpl.getOrders())
+                .expectNext(order)
+                .verifyComplete();
+        verify(orderViewRepository).findAllViewsByCreator(1);
+        verify(orderViewRepository, never()).findAllViews();
+    }
+
+    /**
+     * Method under test: {@link ReactiveOrderServiceImpl#getOrders()}
+     */
+    @Test
+    void testGetOrdersForProcessor() {
+        // Arrange
+        authenticate(2, "PROCESSOR");
+        OrderView first = new OrderView();
+        first.setId(1);
+        OrderView second = new OrderView();
+        second.setId(2);
+        when(orderViewRepository.findAllViews()).thenReturn(Flux.just(first, second));
+
+        // Act and Assert
+        StepVerifier.create(reactiveOrderServiceImpl.getOrders())
+                .expectNext(first, second)
+                .verifyComplete();
+        verify(orderViewRepository).findAllViews();
+    }
+
+    /**
+     * Method under test: {@link ReactiveOrderServiceImpl#getOrders()}
+     */
+    @Test
+    void testGetOrdersAccessDenied() {
+        // Arrange
+        authenticate(3, "UNKNOWN");
+
+        // Act and Assert
+        StepVerifier.create(reactiveOrderServiceImpl.getOrders())
+                .expectError(AccessDeniedException.class)
+                .verify();
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    /**
+     * Method under test: {@link ReactiveOrderServiceImpl#getReadyToProcess()}
+     */
+    @Test
+    void testGetReadyToProcess() {
+        // Arrange
+        when(orderViewRepository.findAllViewsByStatus(anyShort())).thenReturn(Flux.empty());
+
+        // Act and Assert
+        StepVerifier.create(reactiveOrderServiceImpl.getReadyToProcess())
+                .verifyComplete();
+        verify(orderViewRepository).findAllViewsByStatus(eq(OrderStatus.READY.getCode()));
+    }
+
+    /**
+     * Method under test: {@link ReactiveOrderServiceImpl#getStatistics()}
+     */
+    @Test
+    void testGetStatisticsFromCache() {
+        // Arrange
+        StatisticsDto cached = StatisticsDto.builder().total(3L).ready(1L).inProcess(1L).processed(1L).build();
+        when(valueOperations.get(anyString())).thenReturn(Mono.just(cached));
+
+        // Act and Assert
+        StepVerifier.create(reactiveOrderServiceImpl.getStatistics())
+                .expectNext(cached)
+                .verifyComplete();
+        verify(orderViewRepository, never()).getStatistics();
+    }
+
+    /**
+     * Method under test: {@link ReactiveOrderServiceImpl#getStatistics()}
+     */
+    @Test
+    void testGetStatisticsCacheMiss() {
+        // Arrange
+        StatisticsDto loaded = StatisticsDto.builder().total(3L).ready(1L).inProcess(1L).processed(1L).build();
+        when(valueOperations.get(anyString())).thenReturn(Mono.empty());
+        when(valueOperations.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(true));
+        when(orderViewRepository.getStatistics()).thenReturn(Mono.just(loaded));
+
+        // Act and Assert
+        StepVerifier.create(reactiveOrderServiceImpl.getStatistics())
+                .expectNext(loaded)
+                .verifyComplete();
+        verify(valueOperations).set(anyString(), eq(loaded), eq(Duration.ofSeconds(5)));
+    }
+
+    /**
+     * Method under test: {@link ReactiveOrderServiceImpl#getStatistics()}
+     */
+    @Test
+    void testGetStatisticsCacheUnavailable() {
+        // Arrange
+        StatisticsDto loaded = StatisticsDto.builder().total(0L).ready(0L).inProcess(0L).processed(0L).build();
+        when(valueOperations.get(anyString())).thenReturn(Mono.error(new IllegalStateException("Redis is down")));
+        when(valueOperations.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.error(new IllegalStateException("Redis is down")));
+        when(orderViewRepository.getStatistics()).thenReturn(Mono.just(loaded));
+
+        // Act and Assert
+        StepVerifier.create(reactiveOrderServiceImpl.getStatistics())
+                .expectNext(loaded)
+                .verifyComplete();
+    }
+
+    private void authenticate(Integer userId, String role) {
+        JwtEntity jwtEntity = new JwtEntity(userId, "username", "password", "test@mail.com",
+                List.of(new SimpleGrantedAuthority(role)));
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(jwtEntity);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
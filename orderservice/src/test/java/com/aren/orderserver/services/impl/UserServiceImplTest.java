@@ -1,27 +1,40 @@
 package com.aren.orderserver.services.impl;
 
+import com.aren.orderserver.configs.properties.UserImportProperties;
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.exceptions.ErrorCode;
 import com.aren.orderserver.exceptions.ResourceNotFoundException;
+import com.aren.orderserver.exceptions.UserAlreadyExistsException;
 import com.aren.orderserver.repositories.UserRepository;
+import com.aren.orderserver.web.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@ContextConfiguration(classes = {UserServiceImpl.class})
+@ContextConfiguration(classes = {UserServiceImpl.class, UserImportProperties.class, UserServiceImplTest.TransactionTestConfig.class})
 @ExtendWith(SpringExtension.class)
 @DisabledInAotMode
 class UserServiceImplTest {
@@ -29,9 +42,30 @@ class UserServiceImplTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private BoundedPasswordEncoder passwordEncoder;
+
     @Autowired
     private UserServiceImpl userServiceImpl;
 
+    @Autowired
+    private UserImportProperties userImportProperties;
+
+    @TestConfiguration
+    static class TransactionTestConfig {
+
+        @Bean
+        TransactionTemplate transactionTemplate() {
+            return new TransactionTemplate(mock(PlatformTransactionManager.class));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        userImportProperties.setBatchSize(500);
+        userImportProperties.setMaxUsers(10_000);
+    }
+
     /**
      * Method under test: {@link UserServiceImpl#addUser(User)}
      */
@@ -42,15 +76,14 @@ class UserServiceImplTest {
         newUser.setUsername("username");
         newUser.setId(1);
 
-        when(userRepository.existsById(anyInt())).thenReturn(false);
-        when(userRepository.save(any())).thenReturn(newUser);
+        when(userRepository.insertIgnoringConflicts(anyList())).thenReturn(List.of(newUser));
 
         // Act
         User addedUser = userServiceImpl.addUser(newUser);
 
         // Assert
-        verify(userRepository).existsById(1);
-        verify(userRepository).save(newUser);
+        verify(userRepository).insertIgnoringConflicts(List.of(newUser));
+        verify(userRepository, never()).existsById(anyInt());
         assertSame(newUser, addedUser);
     }
 
@@ -59,17 +92,15 @@ class UserServiceImplTest {
      * Method under test: {@link UserServiceImpl#addUser(User)}
      */
     @Test
-    void testAddUserExistsThrowsResourceNotFound() {
+    void testAddUserExistsThrowsUserAlreadyExists() {
         // Arrange
-        when(userRepository.existsById(anyInt())).thenThrow(new ResourceNotFoundException("An error occurred"));
+        when(userRepository.insertIgnoringConflicts(anyList())).thenReturn(List.of());
 
         User user = new User();
-        user.setId(1);
         user.setUsername("username");
 
         // Act and Assert
-        assertThrows(ResourceNotFoundException.class, () -> userServiceImpl.addUser(user));
-        verify(userRepository).existsById(eq(1));
+        assertThrows(UserAlreadyExistsException.class, () -> userServiceImpl.addUser(user));
     }
 
     /**
@@ -78,14 +109,82 @@ class UserServiceImplTest {
     @Test
     void testAUserSaveThrowsResourceNotFound() {
         // Arrange
-        when(userRepository.save(any())).thenThrow(new ResourceNotFoundException("An error occurred"));
+        when(userRepository.insertIgnoringConflicts(anyList())).thenThrow(new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         User user = new User();
         user.setUsername("username");
 
         // Act and Assert
         assertThrows(ResourceNotFoundException.class, () -> userServiceImpl.addUser(user));
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).insertIgnoringConflicts(anyList());
+    }
+
+    /**
+     * Method under test: {@link UserServiceImpl#addUser(User)}
+     */
+    @Test
+    void testAddUserHashesPassword() {
+        // Arrange
+        User newUser = new User();
+        newUser.setUsername("username");
+        newUser.setPassword("password");
+
+        when(passwordEncoder.encode("password")).thenReturn("hashedPassword");
+        when(userRepository.insertIgnoringConflicts(anyList())).thenReturn(List.of(newUser));
+
+        // Act
+        User addedUser = userServiceImpl.addUser(newUser);
+
+        // Assert
+        verify(passwordEncoder).encode("password");
+        assertEquals("hashedPassword", addedUser.getPassword());
+    }
+
+    /**
+     * Method under test: {@link UserServiceImpl#importUsers(List)}
+     */
+    @Test
+    void testImportUsersHashesAndInsertsInBatches() {
+        // Arrange
+        userImportProperties.setBatchSize(2);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(new User("processor" + i, "password" + i, "processor" + i + "@mail.com", null));
+        }
+        when(passwordEncoder.encodeAll(anyList(), anyInt())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0)
+                .stream()
+                .map(password -> "hashed-" + password)
+                .toList());
+        when(userRepository.insertIgnoringConflicts(anyList())).thenAnswer(invocation -> {
+            List<User> batch = invocation.getArgument(0);
+            return batch.stream().filter(user -> !user.getUsername().equals("processor3")).toList();
+        });
+
+        // Act
+        List<User> created = userServiceImpl.importUsers(users);
+
+        // Assert
+        assertEquals(4, created.size());
+        assertEquals("hashed-password0", users.get(0).getPassword());
+        assertEquals("hashed-password4", users.get(4).getPassword());
+        verify(userRepository).insertIgnoringConflicts(users.subList(0, 2));
+        verify(userRepository).insertIgnoringConflicts(users.subList(2, 4));
+        verify(userRepository).insertIgnoringConflicts(users.subList(4, 5));
+        verify(passwordEncoder).encodeAll(anyList(), eq(userImportProperties.getHashingParallelism()));
+    }
+
+    /**
+     * Method under test: {@link UserServiceImpl#importUsers(List)}
+     */
+    @Test
+    void testImportUsersTooMany() {
+        // Arrange
+        userImportProperties.setMaxUsers(1);
+        List<User> users = List.of(new User(), new User());
+
+        // Act and Assert
+        assertThrows(IllegalStateException.class, () -> userServiceImpl.importUsers(users));
+        verify(userRepository, never()).insertIgnoringConflicts(anyList());
     }
 
     /**
@@ -141,11 +240,11 @@ class UserServiceImplTest {
     @Test
     void testGetUserByUsernameThrowsResourceNotFound() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(new ArrayList<>());
+        when(userRepository.findByUsername("username")).thenReturn(Optional.empty());
 
         // Act and Assert
         assertThrows(ResourceNotFoundException.class, () -> userServiceImpl.getUserByUsername("username"));
-        verify(userRepository).findAll();
+        verify(userRepository).findByUsername("username");
     }
 
     /**
@@ -158,16 +257,49 @@ class UserServiceImplTest {
         user.setId(1);
         user.setUsername("username");
 
-        ArrayList<User> userList = new ArrayList<>();
-        userList.add(user);
-        when(userRepository.findAll()).thenReturn(userList);
+        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
 
         // Act
         User retrievedUser = userServiceImpl.getUserByUsername("username");
 
         // Assert
-        verify(userRepository).findAll();
+        verify(userRepository).findByUsername("username");
+        verify(userRepository, never()).findAll();
         assertSame(user, retrievedUser);
     }
 
+    /**
+     * Method under test: {@link UserServiceImpl#updatePassword(String, String)}
+     */
+    @Test
+    void testUpdatePassword() {
+        // Arrange
+        User user = new User();
+        user.setId(1);
+        user.setUsername("username");
+        user.setPassword("oldHash");
+
+        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userRepository.save(any())).thenReturn(user);
+
+        // Act
+        User updatedUser = userServiceImpl.updatePassword("username", "newHash");
+
+        // Assert
+        verify(userRepository).save(user);
+        assertEquals("newHash", updatedUser.getPassword());
+    }
+
+    /**
+     * Method under test: {@link UserServiceImpl#updatePassword(String, String)}
+     */
+    @Test
+    void testUpdatePasswordResourceNotFound() {
+        // Arrange
+        when(userRepository.findByUsername("username")).thenReturn(Optional.empty());
+
+        // Act and Assert
+        assertThrows(ResourceNotFoundException.class, () -> userServiceImpl.updatePassword("username", "newHash"));
+    }
+
 }
@@ -0,0 +1,104 @@
+package com.aren.orderserver.web.controllers;
+
+import com.aren.orderserver.entities.Order;
+import com.aren.orderserver.services.OrderService;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.aren.orderserver.web.mappers.OrderMapper;
+import com.aren.orderserver.web.redis.IdempotencyStore;
+import com.aren.orderserver.web.redis.OrderChangeTracker;
+import com.aren.orderserver.web.sse.OrderNotificationHub;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the order endpoints on Tomcat with the compression settings of application.yml.
+ */
+@SpringBootTest(classes = OrderControllerCompressionTest.WebConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisabledInAotMode
+class OrderControllerCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private OrderMapper orderMapper;
+
+    @MockBean
+    private OrderService orderService;
+
+    @MockBean
+    private OrderNotificationHub orderNotificationHub;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
+    @MockBean
+    private OrderChangeTracker orderChangeTracker;
+
+    /**
+     * Method under test: {@link OrderController#getAllOrders(org.springframework.web.context.request.WebRequest, jakarta.servlet.http.HttpServletResponse)}
+     */
+    @Test
+    void testLargeOrderListWithETagIsCompressed() throws Exception {
+        // Arrange
+        List<OrderDto> orders = IntStream.range(0, 100).mapToObj(i -> {
+            OrderDto orderDto = new OrderDto();
+            orderDto.setId(i);
+            orderDto.setTitle("Order " + i);
+            orderDto.setDescription("Description of order " + i);
+            orderDto.setStatus("READY");
+            return orderDto;
+        }).toList();
+        when(orderChangeTracker.getOrdersVersion()).thenReturn("all-42");
+        when(orderService.getOrders()).thenReturn(new ArrayList<>());
+        when(orderMapper.toDto(Mockito.<List<Order>>any())).thenReturn(orders);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/orders/all"))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        // Act
+        HttpResponse<byte[]> response;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals("W/\"all-42\"", response.headers().firstValue("ETag").orElse(null));
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @Import(OrderController.class)
+    static class WebConfig {
+    }
+
+}
@@ -2,12 +2,19 @@ package com.aren.orderserver.web.controllers;
 
 import com.aren.orderserver.entities.Order;
 import com.aren.orderserver.entities.User;
+import com.aren.orderserver.enums.OrderStatus;
+import com.aren.orderserver.enums.UserRole;
 import com.aren.orderserver.services.OrderService;
 import com.aren.orderserver.web.dto.OrderDto;
 import com.aren.orderserver.web.dto.StatisticsDto;
 import com.aren.orderserver.web.mappers.OrderMapper;
+import com.aren.orderserver.web.redis.IdempotencyStore;
+import com.aren.orderserver.web.redis.OrderChangeTracker;
+import com.aren.orderserver.web.sse.OrderNotificationHub;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
@@ -21,6 +28,8 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -28,8 +37,13 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {OrderController.class})
@@ -46,8 +60,23 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderNotificationHub orderNotificationHub;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
+    @MockBean
+    private OrderChangeTracker orderChangeTracker;
+
+    @BeforeEach
+    void setUp() {
+        when(idempotencyStore.execute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+    }
+
     /**
-     * Method under test: {@link OrderController#startProcessing(Integer)}
+     * Method under test: {@link OrderController#startProcessing(String, Integer)}
      */
     @Test
     void testStartProcessing() throws Exception {
@@ -56,14 +85,14 @@ class OrderControllerTest {
         createdBy.setEmail("test@mail.com");
         createdBy.setId(1);
         createdBy.setPassword("password");
-        createdBy.setRole("Role");
+        createdBy.setRole(UserRole.PROCESSOR);
         createdBy.setUsername("username");
 
         User processedBy = new User();
         processedBy.setEmail("test@mail.com");
         processedBy.setId(1);
         processedBy.setPassword("password");
-        processedBy.setRole("Role");
+        processedBy.setRole(UserRole.PROCESSOR);
         processedBy.setUsername("username");
 
         Order order = new Order();
@@ -72,7 +101,7 @@ class OrderControllerTest {
         order.setDescription("Description");
         order.setId(1);
         order.setProcessedBy(processedBy);
-        order.setStatus("Status");
+        order.setStatus(OrderStatus.READY);
         order.setTitle("title");
         order.setUpdatedDate(OffsetDateTime.of(LocalDate.of(1970, 1, 1), LocalTime.MIDNIGHT, ZoneOffset.UTC));
         when(orderService.startProcessing(Mockito.<Integer>any())).thenReturn(order);
@@ -98,13 +127,13 @@ class OrderControllerTest {
                 .andExpect(MockMvcResultMatchers.content()
                         .string(
                                 "{\"id\":1,\"title\":\"title\",\"description\":\"Description\",\"status\":\"Status\","
-                                + "\"createdBy\":{\"id\":1,\"username\":\"username\",\"password\":\"password\",\"email\":\"test@mail.com\",\"role\""
-                                + ":\"Role\"},\"processedBy\":{\"id\":1,\"username\":\"username\",\"password\":\"password\",\"email\":\"test@mail"
-                                + ".com\",\"role\":\"Role\"},\"createdDate\":\"1970-01-01 00:00\",\"updatedDate\":\"1970-01-01 00:00\"}"));
+                                + "\"createdBy\":{\"id\":1,\"username\":\"username\",\"email\":\"test@mail.com\",\"role\""
+                                + ":\"PROCESSOR\"},\"processedBy\":{\"id\":1,\"username\":\"username\",\"email\":\"test@mail"
+                                + ".com\",\"role\":\"PROCESSOR\"},\"createdDate\":\"1970-01-01 00:00\",\"updatedDate\":\"1970-01-01 00:00\"}"));
     }
 
     /**
-     * Method under test: {@link OrderController#completeProcessing(Integer)}
+     * Method under test: {@link OrderController#completeProcessing(String, Integer)}
      */
     @Test
     void testCompleteProcessing() throws Exception {
@@ -113,14 +142,14 @@ class OrderControllerTest {
         createdBy.setEmail("test@mail.com");
         createdBy.setId(1);
         createdBy.setPassword("password");
-        createdBy.setRole("Role");
+        createdBy.setRole(UserRole.PROCESSOR);
         createdBy.setUsername("username");
 
         User processedBy = new User();
         processedBy.setEmail("test@mail.com");
         processedBy.setId(1);
         processedBy.setPassword("password");
-        processedBy.setRole("Role");
+        processedBy.setRole(UserRole.PROCESSOR);
         processedBy.setUsername("username");
 
         Order order = new Order();
@@ -129,7 +158,7 @@ class OrderControllerTest {
         order.setDescription("Description");
         order.setId(1);
         order.setProcessedBy(processedBy);
-        order.setStatus("Status");
+        order.setStatus(OrderStatus.READY);
         order.setTitle("title");
         order.setUpdatedDate(OffsetDateTime.of(LocalDate.of(1970, 1, 1), LocalTime.MIDNIGHT, ZoneOffset.UTC));
         when(orderService.completeProcessing(Mockito.<Integer>any())).thenReturn(order);
@@ -155,13 +184,13 @@ class OrderControllerTest {
                 .andExpect(MockMvcResultMatchers.content()
                         .string(
                                 "{\"id\":1,\"title\":\"title\",\"description\":\"Description\",\"status\":\"Status\","
-                                + "\"createdBy\":{\"id\":1,\"username\":\"username\",\"password\":\"password\",\"email\":\"test@mail.com\",\"role\""
-                                + ":\"Role\"},\"processedBy\":{\"id\":1,\"username\":\"username\",\"password\":\"password\",\"email\":\"test@mail"
-                                + ".com\",\"role\":\"Role\"},\"createdDate\":\"1970-01-01 00:00\",\"updatedDate\":\"1970-01-01 00:00\"}"));
+                                + "\"createdBy\":{\"id\":1,\"username\":\"username\",\"email\":\"test@mail.com\",\"role\""
+                                + ":\"PROCESSOR\"},\"processedBy\":{\"id\":1,\"username\":\"username\",\"email\":\"test@mail"
+                                + ".com\",\"role\":\"PROCESSOR\"},\"createdDate\":\"1970-01-01 00:00\",\"updatedDate\":\"1970-01-01 00:00\"}"));
     }
 
     /**
-     * Method under test: {@link OrderController#getAllOrders()}
+     * Method under test: {@link OrderController#getAllOrders(WebRequest, HttpServletResponse)}
      */
     @Test
     void testGetAllOrders() throws Exception {
@@ -180,7 +209,7 @@ class OrderControllerTest {
     }
 
     /**
-     * Method under test: {@link OrderController#getOrder(Integer)}
+     * Method under test: {@link OrderController#getOrder(Integer, WebRequest, HttpServletResponse)}
      */
     @Test
     void testGetOrder() throws Exception {
@@ -189,14 +218,14 @@ class OrderControllerTest {
         createdBy.setEmail("test@mail.com");
         createdBy.setId(1);
         createdBy.setPassword("password");
-        createdBy.setRole("Role");
+        createdBy.setRole(UserRole.PROCESSOR);
         createdBy.setUsername("username");
 
         User processedBy = new User();
         processedBy.setEmail("test@mail.com");
         processedBy.setId(1);
         processedBy.setPassword("password");
-        processedBy.setRole("Role");
+        processedBy.setRole(UserRole.PROCESSOR);
         processedBy.setUsername("username");
 
         Order order = new Order();
@@ -205,7 +234,7 @@ class OrderControllerTest {
         order.setDescription("Description");
         order.setId(1);
         order.setProcessedBy(processedBy);
-        order.setStatus("Status");
+        order.setStatus(OrderStatus.READY);
         order.setTitle("title");
         order.setUpdatedDate(OffsetDateTime.of(LocalDate.of(1970, 1, 1), LocalTime.MIDNIGHT, ZoneOffset.UTC));
         when(orderService.getById(Mockito.<Integer>any())).thenReturn(order);
@@ -231,13 +260,13 @@ class OrderControllerTest {
                 .andExpect(MockMvcResultMatchers.content()
                         .string(
                                 "{\"id\":1,\"title\":\"title\",\"description\":\"Description\",\"status\":\"Status\","
-                                + "\"createdBy\":{\"id\":1,\"username\":\"username\",\"password\":\"password\",\"email\":\"test@mail.com\",\"role\""
-                                + ":\"Role\"},\"processedBy\":{\"id\":1,\"username\":\"username\",\"password\":\"password\",\"email\":\"test@mail"
-                                + ".com\",\"role\":\"Role\"},\"createdDate\":\"1970-01-01 00:00\",\"updatedDate\":\"1970-01-01 00:00\"}"));
+                                + "\"createdBy\":{\"id\":1,\"username\":\"username\",\"email\":\"test@mail.com\",\"role\""
+                                + ":\"PROCESSOR\"},\"processedBy\":{\"id\":1,\"username\":\"username\",\"email\":\"test@mail"
+                                + ".com\",\"role\":\"PROCESSOR\"},\"createdDate\":\"1970-01-01 00:00\",\"updatedDate\":\"1970-01-01 00:00\"}"));
     }
 
     /**
-     * Method under test: {@link OrderController#getReadyForProcessOrders()}
+     * Method under test: {@link OrderController#getReadyForProcessOrders(HttpServletResponse)}
      */
     @Test
     void testGetReadyForProcessOrders() throws Exception {
@@ -256,7 +285,26 @@ class OrderControllerTest {
     }
 
     /**
-     * Method under test: {@link OrderController#getStatistics()}
+     * Method under test: {@link OrderController#streamReadyOrders(String)}
+     */
+    @Test
+    void testStreamReadyOrders() throws Exception {
+        // Arrange
+        when(orderNotificationHub.subscribe("1700000000000-0")).thenReturn(new SseEmitter());
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/v1/orders/ready/stream")
+                .header("Last-Event-ID", "1700000000000-0")
+                .accept(MediaType.TEXT_EVENT_STREAM);
+
+        // Act and Assert
+        MockMvcBuilders.standaloneSetup(orderController)
+                .build()
+                .perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+        Mockito.verify(orderNotificationHub).subscribe("1700000000000-0");
+    }
+
+    /**
+     * Method under test: {@link OrderController#getStatistics(HttpServletResponse)}
      */
     @Test
     void testGetStatistics() throws Exception {
@@ -271,11 +319,12 @@ class OrderControllerTest {
                 .perform(requestBuilder)
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType("application/json"))
+                .andExpect(MockMvcResultMatchers.header().string("Vary", "Accept"))
                 .andExpect(MockMvcResultMatchers.content().string("{\"processed\":1,\"inProcess\":1,\"ready\":1,\"total\":1}"));
     }
 
     /**
-     * Method under test: {@link OrderController#placeAndOrder(OrderDto)}
+     * Method under test: {@link OrderController#placeAndOrder(String, OrderDto)}
      */
     @Test
     void testPlaceAndOrder() throws Exception {
@@ -283,7 +332,7 @@ class OrderControllerTest {
         createdBy.setEmail("test@mail.com");
         createdBy.setId(1);
         createdBy.setPassword("password");
-        createdBy.setRole("Role");
+        createdBy.setRole(UserRole.PROCESSOR);
         createdBy.setUsername("username");
 
         Order order = new Order();
@@ -291,7 +340,7 @@ class OrderControllerTest {
         order.setCreatedDate(OffsetDateTime.now());
         order.setDescription("Description");
         order.setId(1);
-        order.setStatus("READY");
+        order.setStatus(OrderStatus.READY);
         order.setTitle("title");
         order.setUpdatedDate(OffsetDateTime.now());
 
@@ -329,4 +378,91 @@ class OrderControllerTest {
                 .andExpect(MockMvcResultMatchers.content()
                         .string(objectMapper.writeValueAsString(orderDto)));
     }
+
+    /**
+     * Method under test: {@link OrderController#completeProcessing(String, Integer)}
+     */
+    @Test
+    void testCompleteProcessingReplaysStoredResponse() throws Exception {
+        // Arrange
+        OrderDto stored = new OrderDto();
+        stored.setId(1);
+        stored.setTitle("title");
+        stored.setStatus("PROCESSED");
+        doReturn(stored).when(idempotencyStore)
+                .execute(eq("retry-1"), eq("completeProcessing"), eq("1"), eq(OrderDto.class), any());
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.put("/api/v1/orders/{orderId}/complete", 1)
+                .header("Idempotency-Key", "retry-1");
+
+        // Act and Assert
+        MockMvcBuilders.standaloneSetup(orderController)
+                .build()
+                .perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("PROCESSED"));
+        verify(orderService, never()).completeProcessing(any());
+    }
+
+    /**
+     * Method under test: {@link OrderController#getOrder(Integer, WebRequest, HttpServletResponse)}
+     */
+    @Test
+    void testGetOrderNotModified() throws Exception {
+        // Arrange
+        Order order = new Order();
+        order.setId(1);
+        order.setVersion(3L);
+        order.setUpdatedDate(OffsetDateTime.of(LocalDate.of(1970, 1, 1), LocalTime.MIDNIGHT, ZoneOffset.UTC));
+        when(orderService.getById(1)).thenReturn(order);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/v1/orders/{orderId}", 1)
+                .header("If-None-Match", "\"1-3\"");
+
+        // Act and Assert
+        MockMvcBuilders.standaloneSetup(orderController)
+                .build()
+                .perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "W/\"1-3\""))
+                .andExpect(MockMvcResultMatchers.header().string("Vary", "Accept"));
+        verify(orderMapper, never()).toDto(Mockito.<Order>any());
+    }
+
+    /**
+     * Method under test: {@link OrderController#getAllOrders(WebRequest, HttpServletResponse)}
+     */
+    @Test
+    void testGetAllOrdersNotModified() throws Exception {
+        // Arrange
+        when(orderChangeTracker.getOrdersVersion()).thenReturn("all-42");
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/v1/orders/all")
+                .header("If-None-Match", "\"all-42\"");
+
+        // Act and Assert
+        MockMvcBuilders.standaloneSetup(orderController)
+                .build()
+                .perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+        verify(orderService, never()).getOrders();
+    }
+
+    /**
+     * Method under test: {@link OrderController#getAllOrders(WebRequest, HttpServletResponse)}
+     */
+    @Test
+    void testGetAllOrdersChanged() throws Exception {
+        // Arrange
+        when(orderChangeTracker.getOrdersVersion()).thenReturn("all-43");
+        when(orderService.getOrders()).thenReturn(new ArrayList<>());
+        when(orderMapper.toDto(Mockito.<List<Order>>any())).thenReturn(new ArrayList<>());
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/v1/orders/all")
+                .header("If-None-Match", "\"all-42\"");
+
+        // Act and Assert
+        MockMvcBuilders.standaloneSetup(orderController)
+                .build()
+                .perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "W/\"all-43\""))
+                .andExpect(MockMvcResultMatchers.content().string("[]"));
+    }
 }
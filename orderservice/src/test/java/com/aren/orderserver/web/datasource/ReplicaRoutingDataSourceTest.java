@@ -0,0 +1,146 @@
+package com.aren.orderserver.web.datasource;
+
+import com.aren.orderserver.web.redis.RecentWriteStore;
+import com.aren.orderserver.web.security.JwtEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final HikariDataSource primary = mock(HikariDataSource.class);
+    private final HikariDataSource first = mock(HikariDataSource.class);
+    private final HikariDataSource second = mock(HikariDataSource.class);
+    private final RecentWriteStore recentWriteStore = mock(RecentWriteStore.class);
+
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(first, second),
+            recentWriteStore, Duration.ofSeconds(5), Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Method under test: {@link ReplicaRoutingDataSource#determineCurrentLookupKey()}
+     */
+    @Test
+    void testReadOnlyRoundRobinsHealthyReplicas() throws SQLException {
+        // Arrange
+        replicaLag(first, 0.5);
+        replicaLag(second, 1.0);
+        dataSource.refreshLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            keys.add(dataSource.determineCurrentLookupKey());
+        }
+
+        // Assert
+        assertEquals(List.of("replica-0", "replica-1", "replica-0", "replica-1"), keys);
+    }
+
+    /**
+     * Method under test: {@link ReplicaRoutingDataSource#refreshLag()}
+     */
+    @Test
+    void testRefreshLagDropsLaggingAndUnreachableReplicas() throws SQLException {
+        // Arrange
+        replicaLag(first, 30.0);
+        when(second.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // Act
+        dataSource.refreshLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Assert
+        assertTrue(dataSource.getHealthyReplicas().isEmpty());
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    /**
+     * Method under test: {@link ReplicaRoutingDataSource#determineCurrentLookupKey()}
+     */
+    @Test
+    void testReadsStickToPrimaryAfterWriteCommits() throws SQLException {
+        // Arrange
+        replicaLag(first, 0.0);
+        replicaLag(second, 0.0);
+        dataSource.refreshLag();
+        authenticate(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        Object writeKey = dataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object readKeyBeforeCommit = dataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        Object readKeyAfterCommit = dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, writeKey);
+        assertEquals("replica-0", readKeyBeforeCommit);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, readKeyAfterCommit);
+        verify(recentWriteStore).mark(1, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Method under test: {@link ReplicaRoutingDataSource#determineCurrentLookupKey()}
+     */
+    @Test
+    void testReadsStickToPrimaryAfterWriteOnAnotherNode() throws SQLException {
+        // Arrange
+        replicaLag(first, 0.0);
+        replicaLag(second, 0.0);
+        dataSource.refreshLag();
+        authenticate(1);
+        when(recentWriteStore.isMarked(1)).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object readKey = dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, readKey);
+    }
+
+    private static void authenticate(int userId) {
+        JwtEntity user = new JwtEntity(userId, "username", "password", "test@mail.com", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, "", List.of()));
+    }
+
+    private static void replicaLag(HikariDataSource replica, double lagSeconds) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+    }
+}
@@ -0,0 +1,213 @@
+package com.aren.orderserver.web.redis;
+
+import com.aren.orderserver.configs.properties.IdempotencyProperties;
+import com.aren.orderserver.exceptions.RequestInProgressException;
+import com.aren.orderserver.web.dto.OrderDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyStoreTest {
+
+    private static final OffsetDateTime CREATED_DATE = OffsetDateTime.of(2024, 5, 1, 11, 5, 30, 0, ZoneOffset.ofHours(2));
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    @SuppressWarnings("unchecked")
+    private final RBucket<String> bucket = mock(RBucket.class);
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.<String>getBucket(anyString(), any(Codec.class))).thenReturn(bucket);
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testFirstRequestRunsActionAndStoresResult() {
+        // Arrange
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+
+        // Act
+        OrderDto result = newStore().execute("key-1", "placeOrder", "title", OrderDto.class, this::placeOrder);
+
+        // Assert
+        String fingerprint = storedFingerprint();
+        assertTrue(fingerprint.matches("[0-9a-f]{64}"));
+        assertEquals(1, executions.get());
+        assertEquals(1, result.getId());
+        verify(bucket).set(startsWith(fingerprint), eq(properties.getTtl()));
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testRetryIsAnsweredFromStoredResult() {
+        // Arrange
+        String stored = storeFirstResult();
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(false);
+        when(bucket.get()).thenReturn(stored);
+
+        // Act
+        OrderDto replayed = newStore().execute("key-1", "placeOrder", "title", OrderDto.class, this::placeOrder);
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(1, replayed.getId());
+        assertEquals(CREATED_DATE, replayed.getCreatedDate());
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testRetryOnSameNodeSkipsRedis() {
+        // Arrange
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+        IdempotencyStore store = newStore();
+        store.execute("key-1", "placeOrder", "title", OrderDto.class, this::placeOrder);
+
+        // Act
+        OrderDto replayed = store.execute("key-1", "placeOrder", "title", OrderDto.class, this::placeOrder);
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(1, replayed.getId());
+        verify(redissonClient, times(1)).getBucket(anyString(), any(Codec.class));
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testConcurrentRetryIsRejected() {
+        // Arrange
+        String fingerprint = storedFingerprint(storeFirstResult());
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(false);
+        when(bucket.get()).thenReturn(fingerprint);
+
+        // Act and Assert
+        assertThrows(RequestInProgressException.class,
+                () -> newStore().execute("key-1", "placeOrder", "title", OrderDto.class, this::placeOrder));
+        assertEquals(1, executions.get());
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testKeyReusedForDifferentRequest() {
+        // Arrange
+        String stored = storeFirstResult();
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(false);
+        when(bucket.get()).thenReturn(stored);
+
+        // Act and Assert
+        assertThrows(IllegalStateException.class,
+                () -> newStore().execute("key-1", "placeOrder", "other title", OrderDto.class, this::placeOrder));
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testFailedActionReleasesKey() {
+        // Arrange
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+
+        // Act and Assert
+        assertThrows(IllegalStateException.class, () -> newStore().execute("key-1", "placeOrder", "title", OrderDto.class,
+                () -> {
+                    throw new IllegalStateException("Order can not be placed");
+                }));
+        verify(bucket).compareAndSet(anyString(), isNull());
+        verify(bucket, never()).set(anyString(), any(Duration.class));
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testUnstorableResultReleasesKey() {
+        // Arrange
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+
+        // Act and Assert
+        assertThrows(IllegalStateException.class,
+                () -> newStore().execute("key-1", "placeOrder", "title", Object.class, Object::new));
+        verify(bucket).compareAndSet(anyString(), isNull());
+        verify(bucket, never()).set(anyString(), any(Duration.class));
+    }
+
+    /**
+     * Method under test: {@link IdempotencyStore#execute}
+     */
+    @Test
+    void testWithoutKeyRunsAction() {
+        // Act
+        newStore().execute(null, "placeOrder", "title", OrderDto.class, this::placeOrder);
+        newStore().execute(null, "placeOrder", "title", OrderDto.class, this::placeOrder);
+
+        // Assert
+        assertEquals(2, executions.get());
+        verifyNoInteractions(redissonClient);
+    }
+
+    private IdempotencyStore newStore() {
+        return new IdempotencyStore(redissonClient, properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    private OrderDto placeOrder() {
+        OrderDto order = new OrderDto();
+        order.setId(executions.incrementAndGet());
+        order.setTitle("title");
+        order.setCreatedDate(CREATED_DATE);
+        return order;
+    }
+
+    /**
+     * Runs a first request on a separate store and returns the value it wrote to Redis.
+     */
+    private String storeFirstResult() {
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+        newStore().execute("key-1", "placeOrder", "title", OrderDto.class, this::placeOrder);
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(bucket).set(value.capture(), any(Duration.class));
+        return value.getValue();
+    }
+
+    private String storedFingerprint() {
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        verify(bucket).setIfAbsent(fingerprint.capture(), any(Duration.class));
+        return fingerprint.getValue();
+    }
+
+    private static String storedFingerprint(String stored) {
+        return stored.substring(0, 64);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.aren.orderserver.web.redis;
+
+import com.aren.orderserver.configs.properties.OrderEventProperties;
+import com.aren.orderserver.configs.properties.RedisClientProperties;
+import com.aren.orderserver.exceptions.EventReadRejectedException;
+import com.aren.orderserver.web.dto.OrderEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamReadArgs;
+import org.redisson.client.codec.Codec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OrderEventStreamTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    private final RedissonClient blockingRedissonClient = mock(RedissonClient.class);
+    @SuppressWarnings("unchecked")
+    private final RStream<String, String> stream = mock(RStream.class);
+    @SuppressWarnings("unchecked")
+    private final RStream<String, String> blockingStream = mock(RStream.class);
+    private final RedisClientProperties redisClientProperties = new RedisClientProperties();
+
+    @BeforeEach
+    void setUp() {
+        redisClientProperties.getBlockingReads().setMaxConcurrent(1);
+        when(redissonClient.<String, String>getStream(anyString(), any(Codec.class))).thenReturn(stream);
+        when(blockingRedissonClient.<String, String>getStream(anyString(), any(Codec.class))).thenReturn(blockingStream);
+    }
+
+    /**
+     * Method under test: {@link OrderEventStream#read(StreamMessageId, int, Duration)}
+     */
+    @Test
+    void testWaitingReadRunsOnBlockingClient() {
+        // Arrange
+        when(blockingStream.read(any(StreamReadArgs.class))).thenReturn(Map.of(new StreamMessageId(1, 0), entries()));
+
+        // Act
+        List<OrderEventDto> events = newStream().read(new StreamMessageId(0, 0), 10, WAIT);
+
+        // Assert
+        assertEquals(List.of("1-0"), events.stream().map(OrderEventDto::getOffset).toList());
+        verifyNoInteractions(stream);
+    }
+
+    /**
+     * Method under test: {@link OrderEventStream#read(StreamMessageId, int, Duration)}
+     */
+    @Test
+    void testWaitingReadBeyondLimitDoesNotWait() {
+        // Arrange
+        OrderEventStream orderEventStream = newStream();
+        when(stream.read(any(StreamReadArgs.class)))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(new StreamMessageId(2, 0), entries()));
+        when(blockingStream.read(any(StreamReadArgs.class))).thenAnswer(invocation -> {
+            // Act
+            assertThrows(EventReadRejectedException.class,
+                    () -> orderEventStream.read(new StreamMessageId(0, 0), 10, WAIT));
+            List<OrderEventDto> available = orderEventStream.read(new StreamMessageId(0, 0), 10, WAIT);
+
+            // Assert
+            assertEquals(List.of("2-0"), available.stream().map(OrderEventDto::getOffset).toList());
+            return Map.of();
+        });
+
+        assertTrue(orderEventStream.read(new StreamMessageId(0, 0), 10, WAIT).isEmpty());
+        verify(blockingStream).read(any(StreamReadArgs.class));
+        verify(stream, times(2)).read(any(StreamReadArgs.class));
+    }
+
+    private OrderEventStream newStream() {
+        return new OrderEventStream(redissonClient, blockingRedissonClient, new OrderEventProperties(),
+                redisClientProperties);
+    }
+
+    private static Map<String, String> entries() {
+        return Map.of(
+                "eventId", "1",
+                "orderId", "7",
+                "type", "PLACED",
+                "status", "READY",
+                "createdDate", "2024-05-01T10:15:30Z");
+    }
+
+}
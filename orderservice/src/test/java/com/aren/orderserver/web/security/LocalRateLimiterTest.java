@@ -0,0 +1,58 @@
+package com.aren.orderserver.web.security;
+
+import com.aren.orderserver.web.security.properties.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimiterTest {
+
+    /**
+     * Method under test: {@link LocalRateLimiter#tryAcquire(String, RateLimitProperties.Limit)}
+     */
+    @Test
+    void testNewKeysBeyondLimitShareOverflowBucket() {
+        // Arrange
+        RateLimitProperties.Limit limit = limit(2);
+        LocalRateLimiter rateLimiter = new LocalRateLimiter(1);
+        rateLimiter.tryAcquire("user-1", limit);
+
+        // Act
+        List<Boolean> newKeys = List.of(
+                rateLimiter.tryAcquire("user-2", limit),
+                rateLimiter.tryAcquire("user-3", limit),
+                rateLimiter.tryAcquire("user-4", limit));
+
+        // Assert
+        assertEquals(List.of(true, true, false), newKeys);
+    }
+
+    /**
+     * Method under test: {@link LocalRateLimiter#tryAcquire(String, RateLimitProperties.Limit)}
+     */
+    @Test
+    void testOverflowDoesNotResetBucketsInUse() {
+        // Arrange
+        RateLimitProperties.Limit limit = limit(1);
+        LocalRateLimiter rateLimiter = new LocalRateLimiter(1);
+        rateLimiter.tryAcquire("user-1", limit);
+
+        // Act
+        for (int i = 2; i < 10; i++) {
+            rateLimiter.tryAcquire("user-" + i, limit);
+        }
+
+        // Assert
+        assertFalse(rateLimiter.tryAcquire("user-1", limit));
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(0.001);
+        return limit;
+    }
+
+}
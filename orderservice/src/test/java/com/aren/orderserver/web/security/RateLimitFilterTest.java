@@ -0,0 +1,149 @@
+package com.aren.orderserver.web.security;
+
+import com.aren.orderserver.web.security.properties.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Method under test: {@link RateLimitFilter#doFilterInternal}
+     */
+    @Test
+    void testRouteBucketIsPerUser() throws Exception {
+        // Arrange
+        RateLimitProperties properties = properties(2);
+        RateLimitFilter filter = new RateLimitFilter(properties, new LocalRateLimiter(100), meterRegistry, objectMapper);
+
+        // Act
+        List<Integer> firstUser = new ArrayList<>();
+        authenticate(1);
+        for (int i = 0; i < 3; i++) {
+            firstUser.add(execute(filter, "PUT", "/api/v1/orders/" + i + "/start").getStatus());
+        }
+        authenticate(2);
+        int secondUser = execute(filter, "PUT", "/api/v1/orders/1/start").getStatus();
+
+        // Assert
+        assertEquals(List.of(200, 200, 429), firstUser);
+        assertEquals(200, secondUser);
+        assertEquals(1.0, meterRegistry.get("http.server.requests.rejected").tag("reason", "rate_limit").counter().count());
+    }
+
+    /**
+     * Method under test: {@link RateLimitFilter#doFilterInternal}
+     */
+    @Test
+    void testOtherRoutesUseDefaultLimit() throws Exception {
+        // Arrange
+        RateLimitFilter filter = new RateLimitFilter(properties(1), new LocalRateLimiter(100), meterRegistry, objectMapper);
+        authenticate(1);
+        execute(filter, "PUT", "/api/v1/orders/1/start");
+
+        // Act
+        MockHttpServletResponse limited = execute(filter, "PUT", "/api/v1/orders/2/start");
+        MockHttpServletResponse other = execute(filter, "GET", "/api/v1/orders/1");
+
+        // Assert
+        assertEquals(429, limited.getStatus());
+        assertEquals("1000", limited.getHeader("Retry-After"));
+        assertEquals("application/json", limited.getContentType());
+        assertEquals("RATE_LIMITED", objectMapper.readTree(limited.getContentAsByteArray()).path("code").asText());
+        assertEquals(200, other.getStatus());
+    }
+
+    /**
+     * Method under test: {@link RateLimitFilter#doFilterInternal}
+     */
+    @Test
+    void testShedsRequestsAboveConcurrencyLimit() throws Exception {
+        // Arrange
+        RateLimitProperties properties = properties(10);
+        properties.getAdmission().setMaxConcurrent(1);
+        properties.getAdmission().setMinConcurrent(1);
+        RateLimitFilter filter = new RateLimitFilter(properties, new LocalRateLimiter(100), meterRegistry, objectMapper);
+        authenticate(1);
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+        FilterChain chain = (request, response) ->
+                filter.doFilter(request("GET", "/api/v1/orders/1"), nested, new MockFilterChain());
+
+        // Act
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/v1/orders/2"), outer, chain);
+
+        // Assert
+        assertEquals(200, outer.getStatus());
+        assertEquals(429, nested.getStatus());
+        assertEquals("application/json", nested.getContentType());
+        assertEquals("SERVER_BUSY", objectMapper.readTree(nested.getContentAsByteArray()).path("code").asText());
+        assertEquals(1.0, meterRegistry.get("http.server.requests.rejected").tag("reason", "overload").counter().count());
+    }
+
+    /**
+     * Method under test: {@link RateLimitFilter#shouldNotFilter}
+     */
+    @Test
+    void testExcludedPathsAreNotLimited() throws Exception {
+        // Arrange
+        RateLimitProperties properties = properties(1);
+        properties.getDefaultLimit().setCapacity(1);
+        RateLimitFilter filter = new RateLimitFilter(properties, new LocalRateLimiter(100), meterRegistry, objectMapper);
+
+        // Act
+        int first = execute(filter, "GET", "/actuator/prometheus").getStatus();
+        int second = execute(filter, "GET", "/actuator/prometheus").getStatus();
+
+        // Assert
+        assertEquals(200, first);
+        assertEquals(200, second);
+    }
+
+    private static RateLimitProperties properties(int startCapacity) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setMethod("PUT");
+        route.setPattern("/api/v1/orders/*/start");
+        route.setCapacity(startCapacity);
+        route.setRefillPerSecond(0.001);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        return properties;
+    }
+
+    private static void authenticate(int userId) {
+        JwtEntity user = new JwtEntity(userId, "user" + userId, "password", "user@mail.com", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        return new MockHttpServletRequest(method, path);
+    }
+
+    private static MockHttpServletResponse execute(RateLimitFilter filter, String method, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path), response, new MockFilterChain());
+        return response;
+    }
+
+}
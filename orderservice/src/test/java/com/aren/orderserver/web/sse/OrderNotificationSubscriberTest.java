@@ -0,0 +1,128 @@
+package com.aren.orderserver.web.sse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderNotificationSubscriberTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final SseEmitter emitter = mock(SseEmitter.class);
+
+    @SuppressWarnings("unchecked")
+    private final Consumer<OrderNotificationSubscriber> onClose = mock(Consumer.class);
+
+    private final OrderNotificationSubscriber subscriber =
+            new OrderNotificationSubscriber(emitter, 2, tasks::add, onClose);
+
+    /**
+     * Method under test: {@link OrderNotificationSubscriber#offer(OrderNotification)}
+     */
+    @Test
+    void testOfferSchedulesOneDrain() throws IOException {
+        // Act
+        assertTrue(subscriber.offer(new OrderNotification("1-0", "ready", "{}")));
+        assertTrue(subscriber.offer(new OrderNotification("2-0", "claimed", "{}")));
+        tasks.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, tasks.size());
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    /**
+     * Method under test: {@link OrderNotificationSubscriber#offer(OrderNotification)}
+     */
+    @Test
+    void testOfferOverflowReplacesBacklogWithResync() throws IOException {
+        // Arrange
+        subscriber.offer(new OrderNotification("1-0", "ready", "{}"));
+        subscriber.offer(new OrderNotification("2-0", "ready", "{}"));
+
+        // Act
+        boolean accepted = subscriber.offer(new OrderNotification("3-0", "ready", "{}"));
+        tasks.forEach(Runnable::run);
+
+        // Assert
+        assertFalse(accepted);
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    /**
+     * Method under test: {@link OrderNotificationSubscriber#offer(OrderNotification)}
+     */
+    @Test
+    void testFailedSendClosesSubscriber() throws IOException {
+        // Arrange
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // Act
+        subscriber.offer(new OrderNotification("1-0", "ready", "{}"));
+        tasks.forEach(Runnable::run);
+        subscriber.close();
+
+        // Assert
+        verify(emitter).complete();
+        verify(onClose, times(1)).accept(subscriber);
+    }
+
+    /**
+     * Method under test: {@link OrderNotificationSubscriber#heartbeat()}
+     */
+    @Test
+    void testHeartbeatSkippedWhileBacklogged() throws IOException {
+        // Arrange
+        subscriber.offer(new OrderNotification("1-0", "ready", "{}"));
+        subscriber.offer(new OrderNotification("2-0", "ready", "{}"));
+
+        // Act
+        subscriber.heartbeat();
+        tasks.forEach(Runnable::run);
+
+        // Assert
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    /**
+     * Method under test: {@link OrderNotificationSubscriber#endReplay(String)}
+     */
+    @Test
+    void testNotificationsDuringReplayAreHeldBackAndDeduplicated() throws IOException {
+        // Arrange
+        OrderNotificationSubscriber replaying = new OrderNotificationSubscriber(emitter, 4, tasks::add, onClose, true);
+        replaying.offer(new OrderNotification("2-0", "ready", "{}"));
+        replaying.offer(new OrderNotification("3-0", "claimed", "{}"));
+        tasks.forEach(Runnable::run);
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+
+        // Act
+        replaying.replay(new OrderNotification("1-5", "ready", "{}"));
+        replaying.replay(new OrderNotification("2-0", "ready", "{}"));
+        boolean accepted = replaying.endReplay("2-0");
+        new ArrayList<>(tasks).forEach(Runnable::run);
+
+        // Assert
+        assertTrue(accepted);
+        verify(emitter, times(3)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    /**
+     * Method under test: {@link OrderNotification#isAfter(String)}
+     */
+    @Test
+    void testIsAfterComparesMillisecondsThenSequence() {
+        // Assert
+        assertTrue(new OrderNotification("10-0", "ready", "{}").isAfter("9-99"));
+        assertTrue(new OrderNotification("10-2", "ready", "{}").isAfter("10-1"));
+        assertFalse(new OrderNotification("10-1", "ready", "{}").isAfter("10-1"));
+        assertFalse(new OrderNotification("9-5", "ready", "{}").isAfter("10-0"));
+    }
+}
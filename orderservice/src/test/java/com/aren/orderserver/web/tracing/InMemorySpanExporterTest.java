@@ -0,0 +1,39 @@
+package com.aren.orderserver.web.tracing;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class InMemorySpanExporterTest {
+
+    /**
+     * Method under test: {@link InMemorySpanExporter#export(java.util.Collection)}
+     */
+    @Test
+    void testOldestSpansAreDroppedAtCapacity() {
+        // Arrange
+        InMemorySpanExporter exporter = new InMemorySpanExporter(1);
+        SpanData first = mock(SpanData.class);
+        SpanData second = mock(SpanData.class);
+
+        // Act
+        exporter.export(List.of(first, second));
+
+        // Assert
+        assertEquals(List.of(second), exporter.getFinishedSpans());
+    }
+
+    /**
+     * Method under test: {@link InMemorySpanExporter#InMemorySpanExporter(int)}
+     */
+    @Test
+    void testCapacityBelowOneIsRejected() {
+        // Act and Assert
+        assertThrows(IllegalArgumentException.class, () -> new InMemorySpanExporter(0));
+    }
+
+}